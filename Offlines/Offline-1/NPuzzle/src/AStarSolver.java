@@ -1,8 +1,15 @@
+import search.ArrayStateTable;
+import search.IndexedMinHeap;
+import search.SearchEngine;
+
 import java.util.*;
 
 public class AStarSolver {
 
     Heuristic heuristic;
+    // Boards pushed onto the open list (decrease-keys included) and boards expanded, the goal included.
+    // A board is expanded at most once and equal f goes to the lower h, so both are below the counts of
+    // the earlier PriorityQueue version, which expanded duplicates and broke f ties arbitrarily.
     int nodeExplored;
     int nodeExpanded;
 
@@ -12,64 +19,24 @@ public class AStarSolver {
         this.nodeExplored = 0;
 
     }
+    // A* on the shared search engine, with boards interned into int ids by PuzzleSpace
     public List<Board> solve(Board initialBoard){
 
-        PriorityQueue<Node> openList = new PriorityQueue<>();
-        Set<Board> closedList = new HashSet<>();
-        Map<Board,Node> nodeMap = new HashMap<>();
-
-        int gCost = 0;
-        int hCost = this.heuristic.calculate(initialBoard);
-        Node startNode = new Node(initialBoard,gCost,hCost,null);
-
-        openList.add(startNode);
-        nodeMap.put(initialBoard,startNode);
-        nodeExplored++;
-
-        while(!openList.isEmpty()){
-
-            Node promisingNode = openList.poll();
-            closedList.add(promisingNode.getBoard());
-            nodeExpanded++;
-
-            if(promisingNode.getBoard().isGoal()){
-                List<Board> path = new ArrayList<>();
-                path.add(promisingNode.getBoard());
-                Node currentNode = promisingNode ;
+        PuzzleSpace space = new PuzzleSpace(initialBoard);
+        SearchEngine engine = new SearchEngine(new IndexedMinHeap(1 << 16), new ArrayStateTable(1 << 16));
+        int goal = engine.search(space, space.start(), state -> heuristic.calculate(space.view(state)));
 
-                while(currentNode.getParent() != null ){
-                    currentNode = currentNode.getParent();
-                    path.add(currentNode.getBoard());
-                }
-//                path.add(currentNode.getBoard());
-                Collections.reverse(path);
-                return path;
-            }
-
-            // Now expand all its neighbors but how to get neighbors?
-            for(Board neighborBoard : promisingNode.getBoard().getNeighbor()){
-
-                if(!closedList.contains(neighborBoard)){
-                    Node neighborNode = nodeMap.get(neighborBoard);
-                    int newGcost = promisingNode.getgCost() + 1;
-
-                    if(neighborNode ==null || newGcost < neighborNode.getgCost()) {
-                        int newHcost = heuristic.calculate(neighborBoard);
-                        // Now we will create new Node even if it already exists.
-                        // Reason is if we just update the gCost(as hCost is same as previous) it will not update the priority queue .
-                        // priority queue only re-organize only if we insert something in it.
-                        Node newNode = new Node(neighborBoard,newGcost,newHcost,promisingNode);
-
-                        // insert it in priority queue and map
-                        openList.add(newNode);
-                        nodeMap.put(neighborBoard,newNode);
-                        nodeExplored++;
+        nodeExplored = (int) engine.generated();
+        nodeExpanded = engine.expanded() + (goal >= 0 ? 1 : 0); // the engine does not close the goal, count it here
+        if (goal < 0) {
+            return null;
+        }
 
-                    }
-                }
-            }
+        List<Board> path = new ArrayList<>();
+        for (int state : engine.path(goal)) {
+            path.add(space.board(state));
         }
-        return null;
+        return path;
     }
     public int getNodeExplored(){
         return nodeExplored;
@@ -0,0 +1,133 @@
+import search.StateSpace;
+
+import java.util.Arrays;
+
+/**
+ * The N-puzzle as a StateSpace for the shared search engine.
+ *
+ * Boards are interned as they are generated: id k is the k-th distinct board seen, its tiles are bytes
+ * k * cells .. (k + 1) * cells - 1 of one pool, and an open-addressing table of ids finds the id of a
+ * board from its tiles. That replaces a Board object, a Node and two hash map entries per state with
+ * cells + 5 bytes plus a table slot. Successors are the boards one blank move away, at cost 1.
+ */
+class PuzzleSpace implements StateSpace {
+    private static final int[][] DIRECTIONS = {{0, -1}, {0, 1}, {1, 0}, {-1, 0}};
+    private static final int EMPTY = -1;
+
+    private final int dimension;
+    private final int cells;
+    private final byte[] goal;
+    private final byte[] scratch;
+    private final int[][] viewTiles;
+    private final Board view;
+    private byte[] tiles;
+    private byte[] blank;
+    private int count;
+    private int[] table;
+
+    PuzzleSpace(Board initial) {
+        this.dimension = initial.getDimension();
+        if (dimension * dimension > Byte.MAX_VALUE) throw new IllegalArgumentException("board too large: " + dimension);
+        this.cells = dimension * dimension;
+        this.goal = new byte[cells];
+        for (int i = 0; i < cells; i++) goal[i] = (byte) ((i + 1) % cells);
+        this.scratch = new byte[cells];
+        this.viewTiles = new int[dimension][dimension];
+        this.view = new Board(viewTiles);
+        view.setTiles(viewTiles); // the constructor copied them, the view must see every refill
+        this.tiles = new byte[1024 * cells];
+        this.blank = new byte[1024];
+        this.table = new int[2048];
+        Arrays.fill(table, EMPTY);
+
+        int[][] start = initial.getTiles();
+        for (int i = 0; i < dimension; i++) {
+            for (int j = 0; j < dimension; j++) scratch[i * dimension + j] = (byte) start[i][j];
+        }
+        intern(scratch, initial.getBlankRow() * dimension + initial.getBlankCol());
+    }
+
+    int start() {
+        return 0;
+    }
+
+    // Number of distinct boards generated so far
+    int size() {
+        return count;
+    }
+
+    Board board(int state) {
+        int[][] board = new int[dimension][dimension];
+        for (int i = 0; i < cells; i++) board[i / dimension][i % dimension] = tiles[state * cells + i];
+        return new Board(board);
+    }
+
+    // The board of state in one reused Board, valid until the next call; the heuristics read it without allocating
+    Board view(int state) {
+        for (int i = 0; i < cells; i++) viewTiles[i / dimension][i % dimension] = tiles[state * cells + i];
+        view.setBlankRow(blank[state] / dimension);
+        view.setBlankCol(blank[state] % dimension);
+        return view;
+    }
+
+    @Override
+    public boolean isGoal(int state) {
+        return Arrays.equals(tiles, state * cells, (state + 1) * cells, goal, 0, cells);
+    }
+
+    @Override
+    public void forEachSuccessor(int state, SuccessorSink sink) {
+        int from = blank[state];
+        int row = from / dimension, col = from % dimension;
+        for (int[] dir : DIRECTIONS) {
+            int newRow = row + dir[0], newCol = col + dir[1];
+            if (newRow < 0 || newRow >= dimension || newCol < 0 || newCol >= dimension) continue;
+
+            int to = newRow * dimension + newCol;
+            System.arraycopy(tiles, state * cells, scratch, 0, cells);
+            scratch[from] = scratch[to];
+            scratch[to] = 0;
+            sink.accept(intern(scratch, to), 1);
+        }
+    }
+
+    // Id of the board in scratch, adding it if it was not seen before
+    private int intern(byte[] board, int blankCell) {
+        int mask = table.length - 1;
+        int slot = hash(board) & mask;
+        for (int id; (id = table[slot]) != EMPTY; slot = slot + 1 & mask) {
+            if (Arrays.equals(tiles, id * cells, (id + 1) * cells, board, 0, cells)) return id;
+        }
+
+        int id = count++;
+        if (count > blank.length) {
+            tiles = Arrays.copyOf(tiles, 2 * tiles.length);
+            blank = Arrays.copyOf(blank, 2 * blank.length);
+        }
+        System.arraycopy(board, 0, tiles, id * cells, cells);
+        blank[id] = (byte) blankCell;
+        table[slot] = id;
+        if (2 * count > table.length) rehash();
+        return id;
+    }
+
+    private int hash(byte[] board) {
+        int h = 0;
+        for (int i = 0; i < cells; i++) h = 31 * h + board[i];
+        h *= 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    private void rehash() {
+        table = new int[2 * table.length];
+        Arrays.fill(table, EMPTY);
+        int mask = table.length - 1;
+        byte[] board = new byte[cells];
+        for (int id = 0; id < count; id++) {
+            System.arraycopy(tiles, id * cells, board, 0, cells);
+            int slot = hash(board) & mask;
+            while (table[slot] != EMPTY) slot = slot + 1 & mask;
+            table[slot] = id;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package maxcut;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Cut evaluation on the CSR arrays: all of them should scale with |E|
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class GraphBenchmark {
+
+    // getCutContribution for every vertex, i.e. one pass over all edges
+    @Benchmark
+    public void cutContributionAllVertices(GraphState state, Blackhole blackhole) {
+        for (int v = 1; v <= state.graph.numVertices; v++) {
+            blackhole.consume(state.graph.getCutContribution(v, state.partition));
+        }
+    }
+
+    @Benchmark
+    public double cutWeight(GraphState state) {
+        return state.graph.cutWeight(state.partition);
+    }
+
+    @Benchmark
+    public double totalCutValue(GraphState state) {
+        return state.graph.totalCutValue(state.partition);
+    }
+}
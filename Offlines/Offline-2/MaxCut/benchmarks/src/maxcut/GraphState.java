@@ -0,0 +1,48 @@
+package maxcut;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * One generated graph per (kind, size) pair and a random partition of it, shared by all benchmark threads.
+ * The kinds follow the G-set: SPARSE random graphs with average degree 6, DENSE random graphs with 6% of all
+ * edges (the density of G1) and TOROIDAL grids with +1/-1 weights.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+    public enum Kind { SPARSE, DENSE, TOROIDAL }
+
+    @Param({"SPARSE", "DENSE", "TOROIDAL"})
+    public Kind kind;
+
+    @Param({"1000", "2000", "4000"})
+    public int size;
+
+    public Graph graph;
+    public Partition partition;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        graph = generator().toGraph();
+        graph.buildCsr();
+        graph.findCriticalEdges();
+        partition = Partition.random(graph.numVertices, new Random(7));
+    }
+
+    private GraphGenerator generator() {
+        switch (kind) {
+            case SPARSE:
+                return new GraphGenerator(GraphGenerator.Type.RANDOM, size, 600.0 / (size - 1), GraphGenerator.Weights.ONE, 42);
+            case DENSE:
+                return new GraphGenerator(GraphGenerator.Type.RANDOM, size, 6, GraphGenerator.Weights.ONE, 42);
+            default:
+                return new GraphGenerator(GraphGenerator.Type.TOROIDAL, size, 0, GraphGenerator.Weights.PLUS_MINUS_ONE, 42);
+        }
+    }
+}
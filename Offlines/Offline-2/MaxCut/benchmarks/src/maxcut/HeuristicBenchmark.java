@@ -0,0 +1,42 @@
+package maxcut;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Construction, local search and a whole GRASP iteration (semi-greedy + tabu search + path relinking)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class HeuristicBenchmark {
+    private final SemiGreedyHeuristic semiGreedy = new SemiGreedyHeuristic();
+    private final LocalSearch localSearch = new LocalSearch();
+    private final Grasp grasp = new Grasp();
+
+    @Benchmark
+    public double semiGreedy(GraphState state) {
+        return semiGreedy.calculateSemiGreedy(state.graph, 0.5).cutValue;
+    }
+
+    // Best-improvement hill climbing from the same random partition to a local optimum
+    @Benchmark
+    public double localSearchSingle(GraphState state) {
+        return localSearch.localSearchSingle(state.graph, state.partition, Integer.MAX_VALUE).cutValue;
+    }
+
+    @Benchmark
+    public GraspTrace graspIteration(GraphState state) {
+        return grasp.runGrasp(state.graph, 0.5, 1, Integer.MAX_VALUE, Double.POSITIVE_INFINITY);
+    }
+}
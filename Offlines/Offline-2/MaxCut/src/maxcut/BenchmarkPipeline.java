@@ -0,0 +1,233 @@
+package maxcut;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs the benchmark sweep as a three stage pipeline:
+ * a loader thread that parses graphs ahead of the solvers, a pool of solver threads
+ * that work on several graphs at once, and a single writer thread that owns the CSV and JSONL files.
+ *
+ * Loaded graphs are admitted against a memory budget, so large graphs are never all held at once.
+ * Rows already present in the CSV are skipped, which lets a crashed sweep be restarted where it stopped.
+ */
+public class BenchmarkPipeline {
+
+    /**
+     * Solves one loaded graph and returns its CSV row (same column order as the header).
+     */
+    public interface GraphTask {
+        String[] solve(String problemName, Graph graph) throws IOException;
+    }
+
+    private static final String[] END_OF_ROWS = new String[0];
+
+    private final String inputDir;
+    private final String csvFile;
+    private final String jsonFile;
+    private final String[] header;
+    private final int workers;
+    private final long memoryBudgetBytes;
+
+    public BenchmarkPipeline(String inputDir, String csvFile, String jsonFile, String[] header, int workers, long memoryBudgetBytes) {
+        this.inputDir = inputDir;
+        this.csvFile = csvFile;
+        this.jsonFile = jsonFile;
+        this.header = header;
+        this.workers = Math.max(1, workers);
+        this.memoryBudgetBytes = Math.max(1, memoryBudgetBytes);
+    }
+
+    public void run(int firstGraph, int lastGraph, GraphTask task) throws IOException, InterruptedException {
+        Set<String> completed = readCompleted();
+        if (!completed.isEmpty()) {
+            System.out.println("Resuming: " + completed.size() + " graphs already in " + csvFile);
+        }
+
+        // Memory budget in KB so that the permits fit in an int
+        int budgetKb = (int) Math.min(Integer.MAX_VALUE, memoryBudgetBytes / 1024);
+        Semaphore memory = new Semaphore(budgetKb);
+        BlockingQueue<String[]> rows = new LinkedBlockingQueue<>();
+        ExecutorService solvers = Executors.newFixedThreadPool(workers);
+
+        Thread writer = new Thread(() -> writeRows(rows), "benchmark-writer");
+        writer.start();
+
+        // Loader stage: runs on this thread, staying ahead of the solvers as far as the budget allows.
+        // Whatever happens here the pool is shut down and the writer released, or the JVM would never exit.
+        try {
+            for (int i = firstGraph; i <= lastGraph; i++) {
+                String problemName = "G" + i;
+                if (completed.contains(problemName)) continue;
+                String filePath = inputDir + "/g" + i + ".rud";
+
+                int permits;
+                Graph graph;
+                try {
+                    int[] size = readHeader(filePath);
+                    permits = (int) Math.min(budgetKb, estimateBytes(size[0], size[1]) / 1024 + 1);
+                    memory.acquire(permits);
+                    try {
+                        graph = MaxCutSolver.readGraph(filePath);
+                    } catch (IOException | RuntimeException e) {
+                        memory.release(permits);
+                        throw e;
+                    }
+                } catch (IOException | RuntimeException e) { // e.g. a malformed header, skip just this graph
+                    System.err.println("Error processing " + problemName + ": " + e);
+                    continue;
+                }
+
+                final int held = permits;
+                final Graph loaded = graph;
+                solvers.execute(() -> {
+                    try {
+                        rows.add(task.solve(problemName, loaded));
+                        System.out.println("Processed " + problemName);
+                    } catch (IOException | RuntimeException e) {
+                        System.err.println("Error processing " + problemName + ": " + e);
+                    } finally {
+                        memory.release(held);
+                    }
+                });
+            }
+        } finally {
+            solvers.shutdown();
+            try {
+                while (!solvers.awaitTermination(1, TimeUnit.MINUTES)) {
+                    // keep waiting, a single large graph can take a long time
+                }
+            } finally {
+                rows.add(END_OF_ROWS);
+            }
+        }
+        writer.join();
+    }
+
+    // Rough heap footprint of a graph held as HashMap adjacency lists, plus the solver's working sets
+    static long estimateBytes(int numVertices, int numEdges) {
+        return 2L * numEdges * 100 + (long) numVertices * 400;
+    }
+
+    private static int[] readHeader(String filePath) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line = reader.readLine();
+            if (line == null) throw new IOException("empty graph file " + filePath);
+            String[] firstLine = line.trim().split("\\s+");
+            return new int[]{Integer.parseInt(firstLine[0]), Integer.parseInt(firstLine[1])};
+        }
+    }
+
+    // Names of the graphs that already have a row in the CSV. Writes the header if the file is new; a CSV
+    // with other columns is moved to csvFile + ".old" (with its JSONL) and a new sweep is started.
+    private Set<String> readCompleted() throws IOException {
+        Set<String> completed = new HashSet<>();
+        File file = new File(csvFile);
+        String expectedHeader = String.join(",", header);
+        truncateToLastLine(file);
+        truncateToLastLine(new File(jsonFile));
+        if (file.exists() && file.length() > 0) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                if (expectedHeader.equals(reader.readLine())) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comma = line.indexOf(',');
+                        // a row with another column count was not written by this sweep, solve it again
+                        if (comma > 0 && line.split(",", -1).length == header.length) {
+                            completed.add(line.substring(0, comma));
+                        }
+                    }
+                    return completed;
+                }
+            }
+            System.out.println(csvFile + " has different columns, moving it to " + csvFile + ".old");
+            moveAside(file);
+            moveAside(new File(jsonFile));
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(csvFile))) {
+            writer.println(expectedHeader);
+        }
+        new File(jsonFile).delete();
+        return completed;
+    }
+
+    // Drops a last line without a newline, i.e. a row cut short by a crash, so that appending starts a new line
+    private static void truncateToLastLine(File file) throws IOException {
+        if (!file.exists()) return;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            byte[] chunk = new byte[8192];
+            for (long end = raf.length(); end > 0; ) {
+                int n = (int) Math.min(chunk.length, end);
+                raf.seek(end - n);
+                raf.readFully(chunk, 0, n);
+                for (int i = n - 1; i >= 0; i--) {
+                    if (chunk[i] == '\n') {
+                        raf.setLength(end - n + i + 1);
+                        return;
+                    }
+                }
+                end -= n;
+            }
+            raf.setLength(0);
+        }
+    }
+
+    private static void moveAside(File file) throws IOException {
+        if (!file.exists()) return;
+        File old = new File(file.getPath() + ".old");
+        old.delete();
+        if (!file.renameTo(old)) throw new IOException("cannot move " + file + " to " + old);
+    }
+
+    private void writeRows(BlockingQueue<String[]> rows) {
+        try (BufferedWriter csv = new BufferedWriter(new FileWriter(csvFile, true));
+             BufferedWriter json = new BufferedWriter(new FileWriter(jsonFile, true))) {
+            while (true) {
+                String[] row = rows.take();
+                if (row == END_OF_ROWS) break;
+                csv.write(String.join(",", row));
+                csv.newLine();
+                json.write(toJson(row));
+                json.newLine();
+                // flush per row so that a crash loses at most the graphs still being solved
+                csv.flush();
+                json.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing results: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String toJson(String[] row) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < row.length && i < header.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('"').append(escape(header[i])).append("\":");
+            String value = row[i];
+            if (value.isEmpty()) {
+                sb.append("null");
+            } else if (isNumber(value)) {
+                sb.append(value);
+            } else {
+                sb.append('"').append(escape(value)).append('"');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            Double.parseDouble(value);
+            return !value.endsWith(".") && Character.isDigit(value.charAt(value.length() - 1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
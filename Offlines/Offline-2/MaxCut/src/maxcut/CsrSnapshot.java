@@ -0,0 +1,209 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary CSR graph file, used as a load cache for .rud files.
+ *
+ * Layout (little endian ints): MAGIC, VERSION, numVertices, numEdges, entries,
+ * then adjStart[numVertices + 2], adjTarget[entries], adjWeight[entries].
+ */
+public class CsrSnapshot {
+    public static final int MAGIC = 0x5253434D; // "MCSR"
+    public static final int VERSION = 1;
+    public static final int HEADER_INTS = 5;
+    public static final String EXTENSION = ".csr";
+
+    public static File snapshotFileFor(File rudFile) {
+        return new File(rudFile.getPath() + EXTENSION);
+    }
+
+    public static void write(Graph graph, File file) throws IOException {
+        graph.buildCsr();
+        int entries = graph.adjStart[graph.numVertices + 1];
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(graph.numVertices).putInt(graph.numEdges).putInt(entries);
+            putInts(channel, buffer, graph.adjStart, graph.numVertices + 2);
+            putInts(channel, buffer, graph.adjTarget, entries);
+            putInts(channel, buffer, graph.adjWeight, entries);
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        // rename last so that a crash never leaves a half written snapshot behind
+        if (!tmp.renameTo(file)) {
+            file.delete();
+            if (!tmp.renameTo(file)) throw new IOException("cannot replace " + file);
+        }
+    }
+
+    public interface EdgeSink {
+        void edge(int u, int v, int weight) throws IOException;
+    }
+
+    // Something that can list the edges of a graph, in the same order every time it is asked
+    public interface EdgeSource {
+        void forEachEdge(EdgeSink sink) throws IOException;
+    }
+
+    /**
+     * Writes a CSR file from an edge stream without holding the graph in memory. The first pass over
+     * edges counts degrees, the second writes every edge into the memory-mapped output, so only
+     * a few int arrays of numVertices + 2 entries live on the heap. Self loops are counted in numEdges
+     * but not stored, and repeated edges are merged as in RudParser: the rows are compacted in place,
+     * the weight column moved down behind them and the file cut to its new length.
+     */
+    public static void writeStreaming(File file, int numVertices, EdgeSource edges) throws IOException {
+        int[] adjStart = new int[numVertices + 2];
+        long[] counts = new long[2]; // edges, adjacency entries
+        edges.forEachEdge((u, v, w) -> {
+            counts[0]++;
+            if (u == v) return;
+            adjStart[u + 1]++;
+            adjStart[v + 1]++;
+            counts[1] += 2;
+        });
+        if (counts[1] > Integer.MAX_VALUE || counts[0] > Integer.MAX_VALUE) {
+            throw new IOException(file + ": too many edges for int offsets");
+        }
+        for (int v = 1; v <= numVertices; v++) {
+            adjStart[v + 1] += adjStart[v];
+        }
+        int entries = adjStart[numVertices + 1];
+
+        File tmp = new File(file.getPath() + ".tmp");
+        long startOffset = HEADER_INTS * 4L;
+        long targetOffset = startOffset + (numVertices + 2L) * 4;
+        long weightOffset = targetOffset + entries * 4L;
+        try (RandomAccessFile raf = new RandomAccessFile(tmp, "rw"); FileChannel out = raf.getChannel()) {
+            raf.setLength(weightOffset + entries * 4L);
+            IntBuffer head = out.map(FileChannel.MapMode.READ_WRITE, 0, targetOffset).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            head.put(MAGIC).put(VERSION).put(numVertices).put((int) counts[0]).put(entries).put(adjStart);
+
+            IntBuffer[] targets = MappedCsrGraph.mapBlocks(out, FileChannel.MapMode.READ_WRITE, targetOffset, entries);
+            IntBuffer[] weights = MappedCsrGraph.mapBlocks(out, FileChannel.MapMode.READ_WRITE, weightOffset, entries);
+
+            int[] next = adjStart.clone(); // write cursor of each vertex
+            edges.forEachEdge((u, v, w) -> {
+                if (u == v) return;
+                int a = next[u]++, b = next[v]++;
+                targets[a >>> MappedCsrGraph.BLOCK_SHIFT].put(a & MappedCsrGraph.BLOCK_MASK, v);
+                weights[a >>> MappedCsrGraph.BLOCK_SHIFT].put(a & MappedCsrGraph.BLOCK_MASK, w);
+                targets[b >>> MappedCsrGraph.BLOCK_SHIFT].put(b & MappedCsrGraph.BLOCK_MASK, u);
+                weights[b >>> MappedCsrGraph.BLOCK_SHIFT].put(b & MappedCsrGraph.BLOCK_MASK, w);
+            });
+
+            int dropped = mergeRepeatedEdges(numVertices, adjStart, slots(targets), slots(weights));
+            if (dropped > 0) {
+                entries = adjStart[numVertices + 1];
+                Slots from = slots(weights);
+                Slots to = slots(MappedCsrGraph.mapBlocks(out, FileChannel.MapMode.READ_WRITE, targetOffset + entries * 4L, entries));
+                for (int i = 0; i < entries; i++) to.set(i, from.get(i)); // the copy only moves down, never over unread entries
+                head.rewind();
+                head.put(MAGIC).put(VERSION).put(numVertices).put((int) counts[0] - dropped / 2).put(entries).put(adjStart);
+                raf.setLength(targetOffset + 2L * entries * 4);
+            }
+        }
+        if (!tmp.renameTo(file)) {
+            file.delete();
+            if (!tmp.renameTo(file)) throw new IOException("cannot replace " + file);
+        }
+    }
+
+    // Entry i of the target or weight column, so one compaction serves heap arrays and mapped files
+    interface Slots {
+        int get(int i);
+        void set(int i, int value);
+    }
+
+    /**
+     * Leaves each neighbour once per row, with the weight of its last entry: rows are filled in file order,
+     * so a repeated edge keeps the weight of its last line, as adding it to a map would. Compacts the rows
+     * in place and updates adjStart; returns the number of entries dropped, two per repeated edge.
+     */
+    static int mergeRepeatedEdges(int numVertices, int[] adjStart, Slots targets, Slots weights) {
+        int[] row = new int[numVertices + 1];  // last row that listed the vertex
+        int[] slot = new int[numVertices + 1]; // where that row keeps it
+        int out = 0;
+        for (int u = 1; u <= numVertices; u++) {
+            int begin = adjStart[u], end = adjStart[u + 1];
+            adjStart[u] = out;
+            for (int i = begin; i < end; i++) {
+                int v = targets.get(i), w = weights.get(i);
+                if (row[v] == u) {
+                    weights.set(slot[v], w);
+                    continue;
+                }
+                row[v] = u;
+                slot[v] = out;
+                targets.set(out, v);
+                weights.set(out++, w);
+            }
+        }
+        int dropped = adjStart[numVertices + 1] - out;
+        adjStart[numVertices + 1] = out;
+        return dropped;
+    }
+
+    static Slots slots(int[] values) {
+        return new Slots() {
+            public int get(int i) { return values[i]; }
+            public void set(int i, int value) { values[i] = value; }
+        };
+    }
+
+    static Slots slots(IntBuffer[] blocks) {
+        return new Slots() {
+            public int get(int i) { return blocks[i >>> MappedCsrGraph.BLOCK_SHIFT].get(i & MappedCsrGraph.BLOCK_MASK); }
+            public void set(int i, int value) { blocks[i >>> MappedCsrGraph.BLOCK_SHIFT].put(i & MappedCsrGraph.BLOCK_MASK, value); }
+        };
+    }
+
+    public static Graph read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            int[] header = readHeader(ints, file);
+            int numVertices = header[2], numEdges = header[3], entries = header[4];
+            if (ints.remaining() != (long) numVertices + 2 + 2L * entries) {
+                throw new IOException(file + ": truncated CSR snapshot");
+            }
+            int[] adjStart = new int[numVertices + 2];
+            int[] adjTarget = new int[entries];
+            int[] adjWeight = new int[entries];
+            ints.get(adjStart).get(adjTarget).get(adjWeight);
+            return new Graph(numVertices, numEdges, adjStart, adjTarget, adjWeight);
+        }
+    }
+
+    static int[] readHeader(IntBuffer ints, File file) throws IOException {
+        if (ints.remaining() < HEADER_INTS) throw new IOException(file + ": not a CSR snapshot");
+        int[] header = new int[HEADER_INTS];
+        ints.get(header);
+        if (header[0] != MAGIC || header[1] != VERSION) {
+            throw new IOException(file + ": not a CSR snapshot (version " + VERSION + ")");
+        }
+        return header;
+    }
+
+    private static void putInts(FileChannel channel, ByteBuffer buffer, int[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.flip();
+                while (buffer.hasRemaining()) channel.write(buffer);
+                buffer.clear();
+            }
+            buffer.putInt(values[i]);
+        }
+    }
+}
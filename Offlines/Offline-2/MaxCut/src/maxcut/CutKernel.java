@@ -0,0 +1,110 @@
+package maxcut;
+
+import java.util.Arrays;
+
+/**
+ * Batch cut evaluation over a graph's edge list.
+ *
+ * Candidates are bit-sliced: packedSides[v] holds vertex v's side in up to 32 partitions at once
+ * (bit k set = v in X in candidate k). One pass over the edges then evaluates all of them,
+ * since packedSides[u] ^ packedSides[v] has bit k set exactly when the edge is cut in candidate k.
+ *
+ * forGraph() returns the JDK Vector API implementation when the jdk.incubator.vector module is
+ * available (run with --add-modules jdk.incubator.vector) and the scalar one otherwise.
+ */
+public abstract class CutKernel {
+    public static final int MAX_BATCH = 32;
+
+    // Every undirected edge once
+    protected final int[] edgeFrom;
+    protected final int[] edgeTo;
+    protected final int[] edgeWeight;
+
+    protected CutKernel(Graph graph) {
+        graph.buildCsr();
+        int count = 0;
+        for (int u = 1; u <= graph.numVertices; u++) {
+            for (int i = graph.adjStart[u]; i < graph.adjStart[u + 1]; i++) {
+                if (u < graph.adjTarget[i]) count++;
+            }
+        }
+        edgeFrom = new int[count];
+        edgeTo = new int[count];
+        edgeWeight = new int[count];
+        int e = 0;
+        for (int u = 1; u <= graph.numVertices; u++) {
+            for (int i = graph.adjStart[u]; i < graph.adjStart[u + 1]; i++) {
+                if (u < graph.adjTarget[i]) {
+                    edgeFrom[e] = u;
+                    edgeTo[e] = graph.adjTarget[i];
+                    edgeWeight[e] = graph.adjWeight[i];
+                    e++;
+                }
+            }
+        }
+    }
+
+    public static CutKernel forGraph(Graph graph) {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (CutKernel) Class.forName("maxcut.VectorCutKernel").getConstructor(Graph.class).newInstance(graph);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall through to the scalar kernel
+            }
+        }
+        return new ScalarCutKernel(graph);
+    }
+
+    /**
+     * Cut values of the first count candidates packed in packedSides.
+     * @param packedSides Indexed by vertex, bit k is the side of the vertex in candidate k
+     * @param out out[k] receives the cut value of candidate k
+     */
+    public abstract void cutWeights(int[] packedSides, int count, long[] out);
+
+    public double cutWeight(Partition partition) {
+        long[] out = new long[1];
+        cutWeights(pack(new Partition[]{partition}, 0, 1), 1, out);
+        return out[0];
+    }
+
+    // Bit-slices partitions[offset .. offset+count-1] into one int per vertex
+    public static int[] pack(Partition[] partitions, int offset, int count) {
+        int numVertices = partitions[offset].getNumVertices();
+        int[] packedSides = new int[numVertices + 1];
+        for (int k = 0; k < count; k++) {
+            Partition partition = partitions[offset + k];
+            for (int v = 1; v <= numVertices; v++) {
+                if (partition.isInX(v)) packedSides[v] |= 1 << k;
+            }
+        }
+        return packedSides;
+    }
+
+    public int numEdges() {
+        return edgeFrom.length;
+    }
+
+    // Scalar tail / fallback: edges [from, to) added into out
+    protected void addScalar(int[] packedSides, int count, long[] out, int from, int to) {
+        for (int e = from; e < to; e++) {
+            int cut = packedSides[edgeFrom[e]] ^ packedSides[edgeTo[e]];
+            int w = edgeWeight[e];
+            for (int k = 0; k < count; k++) {
+                out[k] += ((cut >>> k) & 1) * w;
+            }
+        }
+    }
+}
+
+class ScalarCutKernel extends CutKernel {
+    ScalarCutKernel(Graph graph) {
+        super(graph);
+    }
+
+    @Override
+    public void cutWeights(int[] packedSides, int count, long[] out) {
+        Arrays.fill(out, 0, count, 0L);
+        addScalar(packedSides, count, out, 0, edgeFrom.length);
+    }
+}
@@ -1,3 +1,5 @@
+package maxcut;
+
 public class Edge {
     public int from ;
     public int to ;
@@ -0,0 +1,272 @@
+package maxcut;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Optimal cuts for small graphs and upper bounds for large ones, to measure how far the heuristics are from the optimum.
+ *
+ * solve() is a branch and bound over vertices in decreasing weighted degree. A partition of the first d
+ * vertices is a bit mask in a long, and every node keeps, for each unplaced vertex, the weight it would
+ * cut on either side (sigmaX, sigmaY), updated in O(n) when a vertex is placed. The bound of a node is
+ * the cut so far + max(sigmaX, sigmaY) of every unplaced vertex + the positive weight among unplaced
+ * vertices. Vertex 1 is fixed in X (a cut and its complement are the same), the incumbent starts from a
+ * tabu search solution and the subtrees below the first SPLIT_DEPTH free vertices are searched in parallel
+ * against one shared incumbent.
+ *
+ * spectralUpperBound() is the eigenvalue bound maxcut <= |V|/4 * lambda_max(L) of the weighted Laplacian.
+ *
+ * Usage: ExactMaxCut graph.rud [timeLimitSeconds]
+ */
+public class ExactMaxCut {
+    public static final int MAX_VERTICES = 64;
+    private static final int SPLIT_DEPTH = 12;
+
+    public static class ExactResult {
+        public Partition partition;
+        public double cutValue;
+        public boolean optimal; // false if the time limit stopped the search, cutValue is then a lower bound
+        public long nodes;
+
+        public ExactResult(Partition partition, double cutValue, boolean optimal, long nodes) {
+            this.partition = partition;
+            this.cutValue = cutValue;
+            this.optimal = optimal;
+            this.nodes = nodes;
+        }
+    }
+
+    // Search state shared by the parallel subtrees; vertices are renumbered 0..n-1 in branching order
+    private final int n;
+    private final int[] order;       // order[i] = original vertex of search vertex i
+    private final long[][] weight;   // dense weights between search vertices, parallel edges summed
+    private final long[] positiveLater; // positive weight from i to the vertices after it
+    private final long deadline;
+    private final AtomicLong bestCut;
+    private long bestMask;
+    private final AtomicLong nodes = new AtomicLong();
+    private volatile boolean timedOut;
+
+    private ExactMaxCut(Graph graph, long deadline, long initialCut, long initialMask) {
+        graph.buildCsr();
+        this.n = graph.numVertices;
+        this.deadline = deadline;
+
+        long[] degree = new long[n + 1];
+        for (int v = 1; v <= n; v++) {
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) degree[v] += Math.abs(graph.adjWeight[i]);
+        }
+        this.order = IntStream.rangeClosed(1, n).boxed()
+                .sorted((a, b) -> Long.compare(degree[b], degree[a]))
+                .mapToInt(Integer::intValue).toArray();
+        int[] index = new int[n + 1];
+        for (int i = 0; i < n; i++) index[order[i]] = i;
+
+        this.weight = new long[n][n];
+        for (int v = 1; v <= n; v++) {
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+                weight[index[v]][index[graph.adjTarget[i]]] += graph.adjWeight[i];
+            }
+        }
+        this.positiveLater = new long[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) positiveLater[i] += Math.max(0, weight[i][j]);
+        }
+
+        // The incumbent mask is over search vertices with vertex 0 in X
+        long mask = 0;
+        for (int v = 1; v <= n; v++) {
+            if ((initialMask >>> (v - 1) & 1) != 0) mask |= 1L << index[v];
+        }
+        if ((mask & 1) == 0) mask = ~mask & (n == 64 ? -1L : (1L << n) - 1);
+        this.bestCut = new AtomicLong(initialCut);
+        this.bestMask = mask;
+    }
+
+    /**
+     * Solves graph to optimality, or returns the best cut found when timeLimitMillis runs out.
+     * @throws IllegalArgumentException if the graph has more than MAX_VERTICES vertices
+     */
+    public static ExactResult solve(Graph graph, long timeLimitMillis) {
+        int n = graph.numVertices;
+        if (n > MAX_VERTICES) throw new IllegalArgumentException("exact search supports at most " + MAX_VERTICES + " vertices, got " + n);
+        long deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+
+        // Start from a good cut so that most of the tree is pruned right away
+        TabuSearch.TabuResult start = new TabuSearch().improve(graph, Partition.random(n, new Random()), 200 * n + 1000);
+        long startMask = 0;
+        for (int v = 1; v <= n; v++) {
+            if (start.partition.isInX(v)) startMask |= 1L << (v - 1);
+        }
+        ExactMaxCut search = new ExactMaxCut(graph, deadline, (long) start.cutValue, startMask);
+        search.run();
+
+        Partition partition = new Partition(n);
+        for (int i = 0; i < n; i++) {
+            partition.set(search.order[i], (search.bestMask >>> i & 1) != 0);
+        }
+        return new ExactResult(partition, search.bestCut.get(), !search.timedOut, search.nodes.get());
+    }
+
+    private void run() {
+        if (n <= 1) return;
+        int split = Math.min(SPLIT_DEPTH, n - 1); // vertices 1..split are fixed per task
+        IntStream.range(0, 1 << split).parallel().forEach(prefix -> {
+            long[][] sigmaX = new long[n + 1][n];
+            long[][] sigmaY = new long[n + 1][n];
+            long mask = 0, cut = 0, free = 0;
+            for (int i = 0; i < n; i++) free += positiveLater[i];
+            for (int d = 0; d <= split; d++) {
+                boolean toX = d == 0 || (prefix >>> (d - 1) & 1) != 0;
+                cut += toX ? sigmaX[d][d] : sigmaY[d][d];
+                if (toX) mask |= 1L << d;
+                place(d, toX, sigmaX, sigmaY);
+                free -= positiveLater[d];
+            }
+            long[] localNodes = new long[1];
+            search(split + 1, mask, cut, free, sigmaX, sigmaY, localNodes);
+            nodes.addAndGet(localNodes[0] & 0x3FFF);
+        });
+    }
+
+    // Fills the sigmas of depth d + 1 from depth d with search vertex d placed on the given side
+    private void place(int d, boolean toX, long[][] sigmaX, long[][] sigmaY) {
+        long[] sx = sigmaX[d], sy = sigmaY[d], nx = sigmaX[d + 1], ny = sigmaY[d + 1];
+        long[] w = weight[d];
+        for (int k = d + 1; k < n; k++) {
+            nx[k] = toX ? sx[k] : sx[k] + w[k];
+            ny[k] = toX ? sy[k] + w[k] : sy[k];
+        }
+    }
+
+    private void search(int d, long mask, long cut, long free, long[][] sigmaX, long[][] sigmaY, long[] localNodes) {
+        if ((++localNodes[0] & 0x3FFF) == 0) {
+            nodes.addAndGet(0x4000);
+            if (System.nanoTime() > deadline) timedOut = true;
+        }
+        if (timedOut) return;
+        if (d == n) {
+            offer(cut, mask);
+            return;
+        }
+        long[] sx = sigmaX[d], sy = sigmaY[d];
+        long bound = cut + free;
+        for (int k = d; k < n; k++) bound += Math.max(sx[k], sy[k]);
+        if (bound <= bestCut.get()) return;
+
+        boolean xFirst = sx[d] >= sy[d];
+        for (int branch = 0; branch < 2; branch++) {
+            boolean toX = branch == 0 == xFirst;
+            place(d, toX, sigmaX, sigmaY);
+            search(d + 1, toX ? mask | 1L << d : mask, cut + (toX ? sx[d] : sy[d]), free - positiveLater[d],
+                    sigmaX, sigmaY, localNodes);
+        }
+    }
+
+    private synchronized void offer(long cut, long mask) {
+        if (cut > bestCut.get()) {
+            bestMask = mask;
+            bestCut.set(cut);
+        }
+    }
+
+    /**
+     * maxcut <= |V|/4 * lambda_max(L) for the Laplacian L = D - W, which holds for any edge weights.
+     * lambda_max comes from power iteration on L + sI, shifted by the lowest Gershgorin disc so that the
+     * top eigenvalue dominates. The Rayleigh quotient approaches lambda_max from below, so the iteration
+     * runs until the residual is negligible (slow on graphs with a small spectral gap, such as tori) and the
+     * residual norm is added on top. If maxIterations runs out first, the Rayleigh quotient may still be far
+     * below lambda_max and is not used: the bound then comes from the Gershgorin bound on lambda_max alone.
+     * Either way the result is capped by the total positive weight, so it is always a valid upper bound.
+     */
+    public static double spectralUpperBound(Graph graph, int maxIterations) {
+        graph.buildCsr();
+        int n = graph.numVertices;
+        double[] degree = new double[n + 1];
+        double gershgorin = 0, lowest = 0, positiveWeight = 0;
+        for (int v = 1; v <= n; v++) {
+            double absolute = 0;
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+                degree[v] += graph.adjWeight[i];
+                absolute += Math.abs(graph.adjWeight[i]);
+                positiveWeight += Math.max(0, graph.adjWeight[i]) / 2.0;
+            }
+            gershgorin = Math.max(gershgorin, Math.abs(degree[v]) + absolute);
+            lowest = Math.min(lowest, degree[v] - absolute);
+        }
+        if (n == 0 || gershgorin == 0) return 0;
+
+        // Smallest shift that makes L + sI positive semidefinite, 0 when all weights are non-negative
+        double shift = -lowest;
+        double[] x = new double[n + 1];
+        double[] y = new double[n + 1];
+        Random random = new Random(1);
+        for (int v = 1; v <= n; v++) x[v] = random.nextDouble() - 0.5;
+        normalize(x);
+
+        double tolerance = 1e-9 * gershgorin;
+        double rayleigh = 0, residual = Double.POSITIVE_INFINITY;
+        for (int iteration = 0; iteration < maxIterations && residual > tolerance; iteration++) {
+            multiplyShifted(graph, degree, shift, x, y);
+            rayleigh = dot(x, y);
+            double r = 0;
+            for (int v = 1; v <= n; v++) r += (y[v] - rayleigh * x[v]) * (y[v] - rayleigh * x[v]);
+            residual = Math.sqrt(r);
+            double[] swap = x;
+            x = y;
+            y = swap;
+            normalize(x);
+        }
+        double lambdaMax = residual <= tolerance ? Math.min(rayleigh - shift + residual, gershgorin) : gershgorin;
+        return Math.min(n / 4.0 * lambdaMax, positiveWeight);
+    }
+
+    // y = (L + shift I) x
+    private static void multiplyShifted(Graph graph, double[] degree, double shift, double[] x, double[] y) {
+        for (int v = 1; v < x.length; v++) {
+            double sum = (degree[v] + shift) * x[v];
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+                sum -= graph.adjWeight[i] * x[graph.adjTarget[i]];
+            }
+            y[v] = sum;
+        }
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 1; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static void normalize(double[] x) {
+        double norm = Math.sqrt(dot(x, x));
+        if (norm > 0) {
+            for (int i = 1; i < x.length; i++) x[i] /= norm;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ExactMaxCut graph.rud [timeLimitSeconds]");
+            return;
+        }
+        long timeLimit = args.length > 1 ? Long.parseLong(args[1]) * 1000 : 600_000;
+        Graph graph = RudParser.load(args[0]);
+
+        long start = System.nanoTime();
+        double bound = spectralUpperBound(graph, 100_000);
+        System.out.printf("Spectral upper bound: %.1f (%.2f s)%n", bound, (System.nanoTime() - start) / 1e9);
+
+        if (graph.numVertices <= MAX_VERTICES) {
+            start = System.nanoTime();
+            ExactResult result = solve(graph, timeLimit);
+            System.out.printf("%s: %.0f (%d nodes, %.2f s)%n", result.optimal ? "Optimum" : "Best found, time limit reached",
+                    result.cutValue, result.nodes, (System.nanoTime() - start) / 1e9);
+            System.out.println("X = " + Arrays.toString(IntStream.rangeClosed(1, graph.numVertices)
+                    .filter(result.partition::isInX).toArray()));
+        }
+    }
+}
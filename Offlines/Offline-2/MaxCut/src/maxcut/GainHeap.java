@@ -0,0 +1,117 @@
+package maxcut;
+
+import java.util.Arrays;
+
+/**
+ * Binary max-heap of vertices with a position index, so a key can be changed or a vertex removed in O(log V).
+ * Used by the greedy construction, tabu search and path relinking to find the best vertex without a scan.
+ */
+class GainHeap {
+    private final int[] heap;     // vertices, heap[0] has the largest key
+    private final int[] position; // index of v in heap, -1 if absent
+    private final long[] key;
+    private int size;
+
+    GainHeap(int numVertices) {
+        heap = new int[numVertices];
+        position = new int[numVertices + 1];
+        key = new long[numVertices + 1];
+        Arrays.fill(position, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void insert(int v, long k) {
+        if (position[v] >= 0) throw new IllegalStateException("vertex " + v + " is already in the heap");
+        key[v] = k;
+        heap[size] = v;
+        position[v] = size;
+        siftUp(size++);
+    }
+
+    int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    boolean contains(int v) {
+        return position[v] >= 0;
+    }
+
+    long key(int v) {
+        return key[v];
+    }
+
+    void remove(int v) {
+        int i = position[v];
+        if (i < 0) return;
+        position[v] = -1;
+        if (--size > i) { // the last vertex fills the hole and moves whichever way its key requires
+            int last = heap[size];
+            heap[i] = last;
+            position[last] = i;
+            siftUp(i);
+            if (position[last] == i) siftDown(i);
+        }
+    }
+
+    void update(int v, long k) {
+        int i = position[v];
+        if (i < 0) return;
+        long old = key[v];
+        key[v] = k;
+        if (k > old) siftUp(i);
+        else if (k < old) siftDown(i);
+    }
+
+    // Heap order holds and every position entry points back at its vertex; for tests
+    boolean isValid() {
+        for (int i = 0; i < size; i++) {
+            if (position[heap[i]] != i) return false;
+            if (i > 0 && key[heap[(i - 1) >>> 1]] < key[heap[i]]) return false;
+        }
+        int present = 0;
+        for (int p : position) if (p >= 0) present++;
+        return present == size;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (key[heap[parent]] >= key[v]) break;
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && key[heap[child + 1]] > key[heap[child]]) child++;
+            if (key[heap[child]] <= key[v]) break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
@@ -0,0 +1,167 @@
+package maxcut;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.List;
+
+
+
+public class Graph {
+    public int numEdges;
+    public int numVertices;
+    private List<Map<Integer,Integer>> adjList; // null until adjList() is first called on a CSR-loaded graph
+    public Edge maxEdge;
+    public Edge minEdge;
+
+    // Compressed sparse row view: neighbours of v are adjTarget[adjStart[v] .. adjStart[v+1]-1]
+    public int[] adjStart;
+    public int[] adjTarget;
+    public int[] adjWeight;
+
+    // The graph we declared as an adjacency list
+    public Graph(int numVertices, int numEdges) {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+
+        adjList = new ArrayList<>(numVertices+1);
+        for(int i=0;i<numVertices+1;i++){
+            adjList.add(new HashMap<>());
+        }
+    }
+
+    // Graph loaded straight into CSR arrays (see RudParser). Each row must list a neighbour at most once;
+    // the map view is only built if something asks for it.
+    public Graph(int numVertices, int numEdges, int[] adjStart, int[] adjTarget, int[] adjWeight) {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+        this.adjStart = adjStart;
+        this.adjTarget = adjTarget;
+        this.adjWeight = adjWeight;
+    }
+
+    // Neighbour -> weight map of every vertex, filled from the CSR arrays on first use
+    public List<Map<Integer,Integer>> adjList() {
+        if (adjList == null) {
+            adjList = new ArrayList<>(numVertices + 1);
+            adjList.add(new HashMap<>());
+            for (int u = 1; u <= numVertices; u++) {
+                Map<Integer, Integer> neighbours = new HashMap<>();
+                for (int i = adjStart[u]; i < adjStart[u + 1]; i++) {
+                    neighbours.put(adjTarget[i], adjWeight[i]);
+                }
+                adjList.add(neighbours);
+            }
+        }
+        return adjList;
+    }
+
+    // It is an undirected graph.
+    public void addEdge(int from, int to, int weight){
+        adjList().get(from).put(to,weight);
+        adjList().get(to).put(from,weight);
+        adjStart = null; // CSR view is rebuilt on next use
+    }
+
+    // Builds the CSR arrays from the adjacency maps if they are missing or stale.
+    public void buildCsr() {
+        if (adjStart != null) return;
+        int[] start = new int[numVertices + 2];
+        for (int u = 1; u <= numVertices; u++) {
+            start[u + 1] = start[u] + adjList.get(u).size();
+        }
+        int[] target = new int[start[numVertices + 1]];
+        int[] weight = new int[target.length];
+        for (int u = 1; u <= numVertices; u++) {
+            int i = start[u];
+            for (Map.Entry<Integer, Integer> entry : adjList.get(u).entrySet()) {
+                target[i] = entry.getKey();
+                weight[i] = entry.getValue();
+                i++;
+            }
+        }
+        adjTarget = target;
+        adjWeight = weight;
+        adjStart = start;
+    }
+
+    public void findCriticalEdges() {
+        buildCsr();
+        Edge maxEdge = null;
+        Edge minEdge = null;
+        int maxWeight = Integer.MIN_VALUE;
+        int minWeight = Integer.MAX_VALUE;
+
+        for (int u = 1; u <= numVertices; u++) {
+            for (int i = adjStart[u]; i < adjStart[u + 1]; i++) {
+                int v = adjTarget[i];
+                int weight = adjWeight[i];
+
+                // ensure that duplicate vertex is not considered (u< v)
+                if (u < v && weight > maxWeight) {
+                    maxWeight = weight;
+                    maxEdge = new Edge(u, v, weight);
+                }
+                if (u < v && weight < minWeight) {
+                    minWeight = weight;
+                    minEdge = new Edge(u, v, weight);
+                }
+            }
+        }
+        this.maxEdge = maxEdge != null ? maxEdge : new Edge(0, 0, 0); // Default edge
+        this.minEdge = minEdge != null ? minEdge : new Edge(0, 0, 0); // Default edge
+    }
+
+
+    // sigmaX: weight from v to placed vertices in Y (v's contribution if it goes to X),
+    // sigmaY: weight from v to placed vertices in X. placed == null means every vertex is placed.
+    public partitionCut getCutContribution(int v, Partition partition, boolean[] placed) {
+        buildCsr();
+        double sigmaX = 0, sigmaY = 0;
+        for (int i = adjStart[v]; i < adjStart[v + 1]; i++) {
+            int u = adjTarget[i];
+            if (placed != null && !placed[u]) continue;
+            if (partition.isInX(u)) {
+                sigmaY += adjWeight[i];
+            } else {
+                sigmaX += adjWeight[i];
+            }
+        }
+        return new partitionCut(sigmaX, sigmaY);
+    }
+
+    public partitionCut getCutContribution(int v, Partition partition) {
+        return getCutContribution(v, partition, null);
+    }
+
+    // The one cut evaluation routine: a single O(E) scan over the CSR edges of the vertices in X
+    public double cutWeight(Partition partition) {
+        buildCsr();
+        long[] words = partition.words();
+        long cutWeight = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                int u = (w << 6) + Long.numberOfTrailingZeros(bits);
+                for (int i = adjStart[u]; i < adjStart[u + 1]; i++) {
+                    if (!partition.isInX(adjTarget[i])) {
+                        cutWeight += adjWeight[i];
+                    }
+                }
+            }
+        }
+        return cutWeight;
+    }
+
+    public double totalCutValue(Partition partition){
+        return cutWeight(partition);
+    }
+
+    @Override
+    public String toString() {
+        return "Graph{" +
+                "numEdges=" + numEdges +
+                ", numVertices=" + numVertices +
+                ", adjList=" + adjList() +
+                '}';
+    }
+}
@@ -0,0 +1,211 @@
+package maxcut;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Seeded generator for G-set style graphs, like the rudy generator the G-set was made with.
+ *
+ * RANDOM:   every vertex pair is an edge with probability density% (rudy -rnd_graph), drawn by skipping
+ *           geometrically distributed gaps so the cost is O(V + E) and not O(V^2).
+ * PLANAR:   a rows x cols grid triangulated by one diagonal per cell, every edge kept with probability density%
+ *           (100% gives about 3|V| edges, the density of a maximal planar graph).
+ * TOROIDAL: rows x cols grid wrapped around in both directions (rudy -toroidal_grid_2D), density is ignored.
+ *           Needs rows, cols >= 3 (n >= 9): with fewer the wrap edges would be self-loops or duplicates.
+ * For the grids rows = floor(sqrt(n)) and cols = n / rows, so numVertices() may be slightly below n.
+ *
+ * Weights are all 1 or +1/-1 at random, as in G11-G13 and G32-G34. Edges are produced as a stream and
+ * the same generator always produces the same stream, so files are written in two passes
+ * (count, then write) and never hold the graph in memory.
+ *
+ * Usage: GraphGenerator random|planar|toroidal n [density%] [one|pm1] [seed] [output.rud|output.csr]
+ */
+public class GraphGenerator implements CsrSnapshot.EdgeSource {
+    public enum Type { RANDOM, PLANAR, TOROIDAL }
+
+    public enum Weights { ONE, PLUS_MINUS_ONE }
+
+    private final Type type;
+    private final int numVertices;
+    private final int rows, cols;
+    private final double density;
+    private final Weights weights;
+    private final long seed;
+
+    public GraphGenerator(Type type, int numVertices, double densityPercent, Weights weights, long seed) {
+        if (numVertices < 2) throw new IllegalArgumentException("need at least 2 vertices");
+        this.type = type;
+        this.density = densityPercent / 100.0;
+        this.weights = weights;
+        this.seed = seed;
+        if (type == Type.RANDOM) {
+            this.rows = 1;
+            this.cols = numVertices;
+        } else {
+            this.rows = (int) Math.sqrt(numVertices);
+            this.cols = numVertices / rows;
+            if (type == Type.TOROIDAL && rows < 3) throw new IllegalArgumentException("toroidal grid needs at least 9 vertices");
+        }
+        this.numVertices = rows * cols;
+    }
+
+    public int numVertices() {
+        return numVertices;
+    }
+
+    @Override
+    public void forEachEdge(CsrSnapshot.EdgeSink sink) throws IOException {
+        Random random = new Random(seed);
+        switch (type) {
+            case RANDOM:
+                randomEdges(random, sink);
+                break;
+            case PLANAR:
+                planarEdges(random, sink);
+                break;
+            default:
+                toroidalEdges(random, sink);
+        }
+    }
+
+    // Batagelj and Brandes: walk the pairs (v, w), w < v, in order and jump over the non-edges
+    private void randomEdges(Random random, CsrSnapshot.EdgeSink sink) throws IOException {
+        if (density <= 0) return;
+        double logMiss = Math.log(1 - Math.min(density, 1 - 1e-12));
+        int v = 1;
+        long w = -1;
+        while (v < numVertices) {
+            w += 1 + (density >= 1 ? 0 : (long) Math.floor(Math.log(1 - random.nextDouble()) / logMiss));
+            while (w >= v && v < numVertices) {
+                w -= v;
+                v++;
+            }
+            if (v < numVertices) sink.edge((int) w + 1, v + 1, weight(random));
+        }
+    }
+
+    private void planarEdges(Random random, CsrSnapshot.EdgeSink sink) throws IOException {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c + 1;
+                if (c + 1 < cols && random.nextDouble() < density) sink.edge(v, v + 1, weight(random));
+                if (r + 1 < rows && random.nextDouble() < density) sink.edge(v, v + cols, weight(random));
+                if (c + 1 < cols && r + 1 < rows && random.nextDouble() < density) {
+                    // one of the two diagonals of the cell, either keeps the grid planar
+                    if (random.nextBoolean()) sink.edge(v, v + cols + 1, weight(random));
+                    else sink.edge(v + 1, v + cols, weight(random));
+                }
+            }
+        }
+    }
+
+    private void toroidalEdges(Random random, CsrSnapshot.EdgeSink sink) throws IOException {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c + 1;
+                sink.edge(v, r * cols + (c + 1) % cols + 1, weight(random));
+                sink.edge(v, ((r + 1) % rows) * cols + c + 1, weight(random));
+            }
+        }
+    }
+
+    private int weight(Random random) {
+        return weights == Weights.ONE || random.nextBoolean() ? 1 : -1;
+    }
+
+    public long countEdges() throws IOException {
+        long[] count = new long[1];
+        forEachEdge((u, v, w) -> count[0]++);
+        return count[0];
+    }
+
+    // The whole graph in memory, in the same CSR layout RudParser produces
+    public Graph toGraph() throws IOException {
+        long edgeCount = countEdges();
+        if (2 * edgeCount > Integer.MAX_VALUE) throw new IOException("too many edges for an in-memory Graph");
+        int[] adjStart = new int[numVertices + 2];
+        forEachEdge((u, v, w) -> {
+            adjStart[u + 1]++;
+            adjStart[v + 1]++;
+        });
+        for (int v = 1; v <= numVertices; v++) adjStart[v + 1] += adjStart[v];
+        int[] next = Arrays.copyOf(adjStart, numVertices + 1);
+        int[] adjTarget = new int[(int) (2 * edgeCount)];
+        int[] adjWeight = new int[adjTarget.length];
+        forEachEdge((u, v, w) -> {
+            adjTarget[next[u]] = v;
+            adjWeight[next[u]++] = w;
+            adjTarget[next[v]] = u;
+            adjWeight[next[v]++] = w;
+        });
+        return new Graph(numVertices, (int) edgeCount, adjStart, adjTarget, adjWeight);
+    }
+
+    // rudy text format: "numVertices numEdges", then one "u v weight" line per edge
+    public void writeRud(File file) throws IOException {
+        long edgeCount = countEdges();
+        if (edgeCount > Integer.MAX_VALUE) throw new IOException("too many edges for the .rud header");
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 20)) {
+            byte[] line = new byte[48];
+            int length = appendInt(line, 0, numVertices);
+            line[length++] = ' ';
+            length = appendInt(line, length, (int) edgeCount);
+            line[length++] = '\n';
+            out.write(line, 0, length);
+            forEachEdge((u, v, w) -> {
+                int at = appendInt(line, 0, u);
+                line[at++] = ' ';
+                at = appendInt(line, at, v);
+                line[at++] = ' ';
+                at = appendInt(line, at, w);
+                line[at++] = '\n';
+                out.write(line, 0, at);
+            });
+        }
+    }
+
+    public void writeCsr(File file) throws IOException {
+        CsrSnapshot.writeStreaming(file, numVertices, this);
+    }
+
+    // Writes value in decimal at buffer[at..] and returns the index after it
+    private static int appendInt(byte[] buffer, int at, int value) {
+        if (value < 0) {
+            buffer[at++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) digits++;
+        int end = at + digits;
+        for (int i = end - 1; i >= at; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: GraphGenerator random|planar|toroidal n [density%] [one|pm1] [seed] [output.rud|output.csr]");
+            return;
+        }
+        Type type = Type.valueOf(args[0].toUpperCase());
+        int n = Integer.parseInt(args[1]);
+        double density = args.length > 2 ? Double.parseDouble(args[2]) : 6;
+        Weights weights = args.length > 3 && args[3].equalsIgnoreCase("pm1") ? Weights.PLUS_MINUS_ONE : Weights.ONE;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+        String output = args.length > 5 ? args[5] : type.name().toLowerCase() + "_" + n + "_" + seed + ".rud";
+
+        GraphGenerator generator = new GraphGenerator(type, n, density, weights, seed);
+        long start = System.nanoTime();
+        if (output.endsWith(CsrSnapshot.EXTENSION)) generator.writeCsr(new File(output));
+        else generator.writeRud(new File(output));
+        System.out.printf("%s: %d vertices, %d edges (%.1f s)%n", output, generator.numVertices(),
+                generator.countEdges(), (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,210 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+public class Grasp {
+    private final SemiGreedyHeuristic semiGreedy;
+    private final LocalSearch localSearch;
+    private final GreedyHeuristic greedy;
+    private final RandomizedHeuristic randomized;
+    private final TabuSearch tabuSearch;
+    private final PathRelinking pathRelinking;
+    private final Random random = new Random();
+
+    // Improvement phase: tabu search for min(tabuMovesPerVertex, localSearchDepth) * |V| moves after every
+    // construction, then path relinking against an elite pool of eliteSize solutions. The cap keeps the
+    // size gate callers put on localSearchDepth (2 on large graphs) meaningful for tabu search too.
+    // tabuMovesPerVertex = 0 falls back to the plain LocalSearch hill climber.
+    private final int tabuMovesPerVertex;
+    private final int eliteSize;
+    private Partition bestPartition;
+
+    // Optional warm start and periodic saving of the best partition (see SolutionSnapshot)
+    private SolutionSnapshot warmStart;
+    private File checkpointFile;
+    private long checkpointIntervalNanos;
+
+    public Grasp() {
+        this(50, 10);
+    }
+
+    public Grasp(int tabuMovesPerVertex, int eliteSize) {
+        this.semiGreedy = new SemiGreedyHeuristic();
+        this.localSearch = new LocalSearch();
+        this.greedy = new GreedyHeuristic();
+        this.randomized = new RandomizedHeuristic();
+        this.tabuSearch = new TabuSearch();
+        this.pathRelinking = new PathRelinking();
+        this.tabuMovesPerVertex = tabuMovesPerVertex;
+        this.eliteSize = eliteSize;
+    }
+
+    public static class GraspResult {
+        public double randomizedCutValue;
+        public double greedyCutValue;
+        public double semiGreedyCutValue;
+        public double localSearchCutValue;
+        public int localSearchIterations;
+        public double graspCutValue;
+        public int graspIterations;
+        public GraspTrace trace;
+
+        public GraspResult(double randomizedCutValue, double greedyCutValue, double semiGreedyCutValue,
+                           double localSearchCutValue, int localSearchIterations, double graspCutValue, int graspIterations,
+                           GraspTrace trace) {
+            this.randomizedCutValue = randomizedCutValue;
+            this.greedyCutValue = greedyCutValue;
+            this.semiGreedyCutValue = semiGreedyCutValue;
+            this.localSearchCutValue = localSearchCutValue;
+            this.localSearchIterations = localSearchIterations;
+            this.graspCutValue = graspCutValue;
+            this.graspIterations = graspIterations;
+            this.trace = trace;
+        }
+    }
+
+    /**
+     * The next runs start their first iteration from this solution instead of a semi-greedy construction,
+     * so it is improved by local search and enters the elite pool. null turns the warm start off.
+     */
+    public void setWarmStart(SolutionSnapshot snapshot) {
+        this.warmStart = snapshot;
+    }
+
+    /**
+     * Saves the best partition to file whenever it improves, at most once per interval,
+     * and once more at the end of every run. null turns checkpointing off.
+     */
+    public void setCheckpoint(File file, long intervalMillis) {
+        this.checkpointFile = file;
+        this.checkpointIntervalNanos = intervalMillis * 1_000_000L;
+    }
+
+    public GraspResult calculateGrasp(Graph graph, double alpha, int numIterations, int randomizedIterations, int localSearchK, int localSearchDepth) {
+        return calculateGrasp(graph, alpha, ReactiveAlpha.fixed(alpha), numIterations, randomizedIterations, localSearchK, localSearchDepth);
+    }
+
+    /**
+     * Same as above, but the GRASP iterations draw their alpha from graspAlpha (reactive GRASP).
+     * The single semi-greedy run still uses alpha.
+     */
+    public GraspResult calculateGrasp(Graph graph, double alpha, ReactiveAlpha graspAlpha, int numIterations, int randomizedIterations, int localSearchK, int localSearchDepth) {
+        // Randomized Heuristic
+        double randomizedCutValue = randomized.calculateRandomizedHeuristic(graph, randomizedIterations);
+
+        // Greedy Heuristic
+        double greedyCutValue = greedy.calculateGreedyHeuristic(graph);
+
+        // Semi-Greedy Heuristic
+        SemiGreedyResult semiGreedyResult = semiGreedy.calculateSemiGreedy(graph, alpha);
+        double semiGreedyCutValue = semiGreedyResult.cutValue;
+
+        // Local Search (k initial solutions)
+        LocalSearch.LocalSearchResult localSearchResult = localSearch.localSearch(graph, localSearchK, localSearchDepth);
+        double localSearchCutValue = localSearchResult.averageCutValue;
+        int localSearchIterations = localSearchResult.iterations;
+
+        // GRASP
+        GraspTrace trace = runGrasp(graph, graspAlpha, numIterations, localSearchDepth, Double.POSITIVE_INFINITY);
+        double bestCutValue = trace.size() > 0 ? trace.getBestCutValue(trace.size() - 1) : Double.MIN_VALUE;
+
+        return new GraspResult(randomizedCutValue, greedyCutValue, semiGreedyCutValue,
+                localSearchCutValue, localSearchIterations, bestCutValue, numIterations, trace);
+    }
+
+    /**
+     * Runs the GRASP iterations alone and records them.
+     * @param target Stop as soon as the best cut reaches this value (POSITIVE_INFINITY: run all iterations)
+     * @return The trace of the run, its last best cut value is the GRASP result
+     */
+    public GraspTrace runGrasp(Graph graph, double alpha, int numIterations, int localSearchDepth, double target) {
+        return runGrasp(graph, ReactiveAlpha.fixed(alpha), numIterations, localSearchDepth, target);
+    }
+
+    public GraspTrace runGrasp(Graph graph, ReactiveAlpha alphaSelector, int numIterations, int localSearchDepth, double target) {
+        PathRelinking.ElitePool elite = new PathRelinking.ElitePool(eliteSize);
+        int tabuMoves = Math.min(tabuMovesPerVertex, localSearchDepth) * graph.numVertices;
+        GraspTrace trace = new GraspTrace(numIterations);
+        bestPartition = null;
+        SolutionSnapshot warm = warmStart != null && warmStart.partition.getNumVertices() == graph.numVertices ? warmStart : null;
+        long previousIterations = warm != null ? warm.iterations : 0;
+        long lastCheckpoint = System.nanoTime();
+        boolean unsaved = false;
+        for (int i = 0; i < numIterations; i++) {
+            int alphaIndex = alphaSelector.select(random);
+            double alpha = alphaSelector.alpha(alphaIndex);
+
+            long start = System.nanoTime();
+            Partition initial = i == 0 && warm != null ? warm.partition.copy()
+                    : semiGreedy.calculateSemiGreedy(graph, alpha).partition;
+            long constructed = System.nanoTime();
+
+            double currentCutValue;
+            Partition currentPartition;
+            int moves;
+            long improvedAt;
+            if (tabuMoves > 0) {
+                TabuSearch.TabuResult improved = tabuSearch.improve(graph, initial, tabuMoves);
+                improvedAt = System.nanoTime();
+                moves = improved.iterations;
+                improved = relink(graph, improved, elite, tabuMoves);
+                currentCutValue = improved.cutValue;
+                currentPartition = improved.partition;
+            } else {
+                LocalSearch.SingleResult improved = localSearch.localSearchSingle(graph, initial, localSearchDepth);
+                improvedAt = System.nanoTime();
+                moves = improved.iterations;
+                currentCutValue = improved.cutValue;
+                currentPartition = improved.partition;
+            }
+            if (trace.size() == 0 || currentCutValue > trace.getBestCutValue(trace.size() - 1)) {
+                bestPartition = currentPartition;
+                unsaved = true;
+            }
+            trace.record(alpha, constructed - start, improvedAt - constructed, System.nanoTime() - improvedAt, moves, currentCutValue);
+            alphaSelector.report(alphaIndex, currentCutValue);
+
+            if (unsaved && System.nanoTime() - lastCheckpoint >= checkpointIntervalNanos) {
+                unsaved = !checkpoint(graph, trace, previousIterations);
+                lastCheckpoint = System.nanoTime();
+            }
+            if (currentCutValue >= target) break;
+        }
+        if (trace.size() > 0) checkpoint(graph, trace, previousIterations); // also keeps the iteration count current
+        return trace;
+    }
+
+    // Writes the best partition so far, returns false if there is no checkpoint file or writing failed
+    private boolean checkpoint(Graph graph, GraspTrace trace, long previousIterations) {
+        if (checkpointFile == null) return false;
+        try {
+            SolutionSnapshot.write(checkpointFile, graph, bestPartition, trace.getBestCutValue(trace.size() - 1),
+                    previousIterations + trace.size());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Could not save " + checkpointFile + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Partition with the best cut of the last runGrasp call, null if it ran no iterations
+    public Partition getBestPartition() {
+        return bestPartition;
+    }
+
+    // Relinks the improved solution with a random elite solution and keeps the better of the two
+    private TabuSearch.TabuResult relink(Graph graph, TabuSearch.TabuResult improved, PathRelinking.ElitePool elite, int tabuMoves) {
+        if (!elite.isEmpty()) {
+            TabuSearch.TabuResult relinked = pathRelinking.relink(graph, improved.partition, elite.pick(random));
+            relinked = tabuSearch.improve(graph, relinked.partition, tabuMoves / 2);
+            elite.offer(relinked.partition, relinked.cutValue);
+            if (relinked.cutValue > improved.cutValue) {
+                improved = relinked;
+            }
+        }
+        elite.offer(improved.partition, improved.cutValue);
+        return improved;
+    }
+}
\ No newline at end of file
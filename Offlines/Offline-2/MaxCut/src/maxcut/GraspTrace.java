@@ -0,0 +1,137 @@
+package maxcut;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Per-iteration record of a GRASP run: when each iteration finished, the alpha it used, how long construction,
+ * improvement and path relinking took, how many moves the improvement made and the cut values.
+ *
+ * Everything is kept in primitive arrays filled with System.nanoTime() readings, so recording
+ * costs a few array stores per iteration and can stay on in normal runs.
+ */
+public class GraspTrace {
+    private final long startNanos;
+    private int size;
+    private long[] elapsedNanos;
+    private double[] alpha;
+    private long[] constructionNanos;
+    private long[] improvementNanos;
+    private long[] relinkNanos;
+    private int[] moves;
+    private double[] cutValue;
+    private double[] bestCutValue;
+
+    public GraspTrace(int expectedIterations) {
+        int capacity = Math.max(1, expectedIterations);
+        this.startNanos = System.nanoTime();
+        this.elapsedNanos = new long[capacity];
+        this.alpha = new double[capacity];
+        this.constructionNanos = new long[capacity];
+        this.improvementNanos = new long[capacity];
+        this.relinkNanos = new long[capacity];
+        this.moves = new int[capacity];
+        this.cutValue = new double[capacity];
+        this.bestCutValue = new double[capacity];
+    }
+
+    public void record(double iterationAlpha, long construction, long improvement, long relink, int iterationMoves, double cut) {
+        if (size == elapsedNanos.length) grow();
+        elapsedNanos[size] = System.nanoTime() - startNanos;
+        alpha[size] = iterationAlpha;
+        constructionNanos[size] = construction;
+        improvementNanos[size] = improvement;
+        relinkNanos[size] = relink;
+        moves[size] = iterationMoves;
+        cutValue[size] = cut;
+        bestCutValue[size] = size == 0 ? cut : Math.max(cut, bestCutValue[size - 1]);
+        size++;
+    }
+
+    private void grow() {
+        int capacity = elapsedNanos.length * 2;
+        elapsedNanos = Arrays.copyOf(elapsedNanos, capacity);
+        alpha = Arrays.copyOf(alpha, capacity);
+        constructionNanos = Arrays.copyOf(constructionNanos, capacity);
+        improvementNanos = Arrays.copyOf(improvementNanos, capacity);
+        relinkNanos = Arrays.copyOf(relinkNanos, capacity);
+        moves = Arrays.copyOf(moves, capacity);
+        cutValue = Arrays.copyOf(cutValue, capacity);
+        bestCutValue = Arrays.copyOf(bestCutValue, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Time from the start of the run until the best cut first reached target, or -1 if it never did
+    public long timeToTargetNanos(double target) {
+        for (int i = 0; i < size; i++) {
+            if (bestCutValue[i] >= target) return elapsedNanos[i];
+        }
+        return -1;
+    }
+
+    // Iteration (0-based) at which the final best cut was first found, or -1 for an empty trace
+    public int bestIteration() {
+        if (size == 0) return -1;
+        double best = bestCutValue[size - 1];
+        for (int i = 0; i < size; i++) {
+            if (cutValue[i] == best) return i;
+        }
+        return size - 1;
+    }
+
+    public long totalConstructionNanos() {
+        return sum(constructionNanos);
+    }
+
+    public long totalImprovementNanos() {
+        return sum(improvementNanos);
+    }
+
+    public long totalRelinkNanos() {
+        return sum(relinkNanos);
+    }
+
+    public long totalMoves() {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += moves[i];
+        return total;
+    }
+
+    private long sum(long[] values) {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += values[i];
+        return total;
+    }
+
+    public long getElapsedNanos(int iteration) {
+        return elapsedNanos[iteration];
+    }
+
+    public double getAlpha(int iteration) {
+        return alpha[iteration];
+    }
+
+    public double getCutValue(int iteration) {
+        return cutValue[iteration];
+    }
+
+    public double getBestCutValue(int iteration) {
+        return bestCutValue[iteration];
+    }
+
+    // One row per iteration, times in nanoseconds
+    public void writeCsv(File file) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("iteration,elapsed_ns,alpha,construction_ns,improvement_ns,relink_ns,moves,cut,best_cut");
+            writer.newLine();
+            for (int i = 0; i < size; i++) {
+                writer.write(i + "," + elapsedNanos[i] + "," + alpha[i] + "," + constructionNanos[i] + "," + improvementNanos[i]
+                        + "," + relinkNanos[i] + "," + moves[i] + "," + cutValue[i] + "," + bestCutValue[i]);
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package maxcut;
+
+import java.util.*;
+
+public class GreedyHeuristic {
+    /**
+     * Greedy construction: after the endpoints of the heaviest edge, always places the unplaced vertex with the
+     * largest |sigmaX - sigmaY| next, on the side that cuts more weight to the placed vertices.
+     * sigmaX/sigmaY are kept per vertex and updated from the edges of each placed vertex, and the unplaced
+     * vertices sit in an indexed max-heap on that difference, so the whole run is O(E log V).
+     */
+    public double calculateGreedyHeuristic(Graph graph) {
+        int n = graph.numVertices;
+        Partition partition = new Partition(n);
+        boolean[] placed = new boolean[n + 1];
+
+        // Find edge with maximum weight
+        if (graph.maxEdge == null) graph.findCriticalEdges();
+        Edge maxEdge = graph.maxEdge;
+
+        // Handle edge cases (no edges or empty graph)
+        if (maxEdge == null || maxEdge.from == 0) {
+            // Arbitrarily assign vertex 1 to X, every other vertex stays in Y
+            if (n > 0) partition.moveToX(1);
+            return graph.totalCutValue(partition);
+        }
+
+        graph.buildCsr();
+        // sigmaX: weight to placed vertices in Y (gained if v goes to X), sigmaY: weight to placed vertices in X
+        long[] sigmaX = new long[n + 1];
+        long[] sigmaY = new long[n + 1];
+
+        // Assign vertices of max edge to partitions
+        partition.moveToX(maxEdge.from);
+        partition.moveToY(maxEdge.to);
+        placed[maxEdge.from] = true;
+        placed[maxEdge.to] = true;
+        place(graph, maxEdge.from, true, placed, sigmaX, sigmaY, null);
+        place(graph, maxEdge.to, false, placed, sigmaX, sigmaY, null);
+
+        GainHeap heap = new GainHeap(n);
+        for (int v = 1; v <= n; v++) {
+            if (!placed[v]) heap.insert(v, Math.abs(sigmaX[v] - sigmaY[v]));
+        }
+
+        // Running cut value of the placed vertices
+        double cutValue = maxEdge.weight;
+
+        while (!heap.isEmpty()) {
+            int nextVertex = heap.poll();
+
+            // Assign vertex to the partition that maximizes the cut
+            boolean toX = sigmaX[nextVertex] > sigmaY[nextVertex];
+            partition.set(nextVertex, toX);
+            placed[nextVertex] = true;
+            cutValue += toX ? sigmaX[nextVertex] : sigmaY[nextVertex];
+            place(graph, nextVertex, toX, placed, sigmaX, sigmaY, heap);
+        }
+
+        // Every vertex is placed, so the running value is the final cut value
+        return cutValue;
+    }
+
+    // Adds v's edges to the sigmas of its unplaced neighbours and re-keys them in the heap
+    private void place(Graph graph, int v, boolean toX, boolean[] placed, long[] sigmaX, long[] sigmaY, GainHeap heap) {
+        for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+            int u = graph.adjTarget[i];
+            if (placed[u]) continue;
+            if (toX) sigmaY[u] += graph.adjWeight[i];
+            else sigmaX[u] += graph.adjWeight[i];
+            if (heap != null) heap.update(u, Math.abs(sigmaX[u] - sigmaY[u]));
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package maxcut;
+
 import java.util.*;
 
 public class LocalSearch {
@@ -19,18 +21,10 @@ public class LocalSearch {
         // Run Local Search k times with different random initial solutions
         for (int i = 0; i < k; i++) {
             // Generate random initial solution
-            Set<Integer> partitionX = new HashSet<>();
-            Set<Integer> partitionY = new HashSet<>();
-            for (int v = 1; v <= graph.numVertices; v++) {
-                if (random.nextBoolean()) {
-                    partitionX.add(v);
-                } else {
-                    partitionY.add(v);
-                }
-            }
+            Partition partition = Partition.random(graph.numVertices, random);
 
             // Run Local Search with maxDepth
-            SingleResult result = localSearchSingle(graph, partitionX, partitionY, maxDepth);
+            SingleResult result = localSearchSingle(graph, partition, maxDepth);
             totalCutValue += result.cutValue;
             totalIterations += result.iterations;
         }
@@ -44,16 +38,17 @@ public class LocalSearch {
     public static class SingleResult {
         double cutValue;
         int iterations;
+        Partition partition;
 
-        SingleResult(double cutValue, int iterations) {
+        SingleResult(double cutValue, int iterations, Partition partition) {
             this.cutValue = cutValue;
             this.iterations = iterations;
+            this.partition = partition;
         }
     }
 
-    public SingleResult localSearchSingle(Graph graph, Set<Integer> initialPartitionX, Set<Integer> initialPartitionY, int maxDepth) {
-        Set<Integer> partitionX = new HashSet<>(initialPartitionX);
-        Set<Integer> partitionY = new HashSet<>(initialPartitionY);
+    public SingleResult localSearchSingle(Graph graph, Partition initialPartition, int maxDepth) {
+        Solution solution = new Solution(graph, initialPartition);
         int depth = 0;
         boolean improved;
 
@@ -61,27 +56,18 @@ public class LocalSearch {
             improved = false;
             int bestVertex = -1;
             double bestDelta = 0;
-            boolean moveToX = false;
 
             for (int v = 1; v <= graph.numVertices; v++) {
-                partitionCut cut = graph.getCutContribution(v, partitionX, partitionY);
-                double delta = partitionX.contains(v) ? cut.sigmaY - cut.sigmaX : cut.sigmaX - cut.sigmaY;
+                double delta = solution.gain(v);
                 if (delta > bestDelta) {
                     bestDelta = delta;
                     bestVertex = v;
-                    moveToX = partitionY.contains(v);
                     improved = true;
                 }
             }
 
             if (improved && depth < maxDepth) {
-                if (moveToX) {
-                    partitionY.remove(bestVertex);
-                    partitionX.add(bestVertex);
-                } else {
-                    partitionX.remove(bestVertex);
-                    partitionY.add(bestVertex);
-                }
+                solution.flip(bestVertex);
                 depth++;
 
             } else {
@@ -89,6 +75,6 @@ public class LocalSearch {
             }
         } while (improved && depth < maxDepth);
 
-        return new SingleResult(graph.totalCutValue(partitionX, partitionY), depth);
+        return new SingleResult(solution.getCutValue(), depth, solution.getPartition());
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only graph backed by a memory-mapped CSR file (the CsrSnapshot format).
+ *
+ * Only adjStart (one int per vertex) is copied onto the heap. The neighbour and weight arrays stay
+ * in the mapped file and are paged in by the OS as they are read, so graphs far larger than the
+ * heap can be processed. The file is mapped in blocks because a single mapping is limited to 2 GB.
+ */
+public class MappedCsrGraph {
+    static final int BLOCK_SHIFT = 27; // 2^27 ints = 512 MB per mapping
+    static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    public final int numVertices;
+    public final int numEdges;
+    private final int[] adjStart;
+    private final IntBuffer[] targetBlocks;
+    private final IntBuffer[] weightBlocks;
+
+    private MappedCsrGraph(int numVertices, int numEdges, int[] adjStart, IntBuffer[] targetBlocks, IntBuffer[] weightBlocks) {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+        this.adjStart = adjStart;
+        this.targetBlocks = targetBlocks;
+        this.weightBlocks = weightBlocks;
+    }
+
+    public static MappedCsrGraph open(File csrFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(csrFile.toPath(), StandardOpenOption.READ)) {
+            IntBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, CsrSnapshot.HEADER_INTS * 4L)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            int[] fields = CsrSnapshot.readHeader(header, csrFile);
+            int numVertices = fields[2], numEdges = fields[3], entries = fields[4];
+
+            long startOffset = CsrSnapshot.HEADER_INTS * 4L;
+            long targetOffset = startOffset + (numVertices + 2L) * 4;
+            long weightOffset = targetOffset + entries * 4L;
+            if (channel.size() != weightOffset + entries * 4L) {
+                throw new IOException(csrFile + ": truncated CSR file");
+            }
+
+            int[] adjStart = new int[numVertices + 2];
+            channel.map(FileChannel.MapMode.READ_ONLY, startOffset, (numVertices + 2L) * 4)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(adjStart);
+            return new MappedCsrGraph(numVertices, numEdges, adjStart,
+                    mapBlocks(channel, FileChannel.MapMode.READ_ONLY, targetOffset, entries),
+                    mapBlocks(channel, FileChannel.MapMode.READ_ONLY, weightOffset, entries));
+        }
+    }
+
+    // Maps count ints starting at byte offset as a series of block-sized views
+    static IntBuffer[] mapBlocks(FileChannel channel, FileChannel.MapMode mode, long offset, int count) throws IOException {
+        int blocks = (int) (((long) count + BLOCK_MASK) >>> BLOCK_SHIFT);
+        IntBuffer[] result = new IntBuffer[Math.max(1, blocks)];
+        for (int b = 0; b < result.length; b++) {
+            long first = (long) b << BLOCK_SHIFT;
+            long size = Math.min(1L << BLOCK_SHIFT, count - first);
+            result[b] = channel.map(mode, offset + first * 4, Math.max(0, size) * 4)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        }
+        return result;
+    }
+
+    // Neighbours of v are target(i), weight(i) for start(v) <= i < end(v)
+    public int start(int v) {
+        return adjStart[v];
+    }
+
+    public int end(int v) {
+        return adjStart[v + 1];
+    }
+
+    public int target(int i) {
+        return targetBlocks[i >>> BLOCK_SHIFT].get(i & BLOCK_MASK);
+    }
+
+    public int weight(int i) {
+        return weightBlocks[i >>> BLOCK_SHIFT].get(i & BLOCK_MASK);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedCsrGraph{" +
+                "numVertices=" + numVertices +
+                ", numEdges=" + numEdges +
+                '}';
+    }
+}
@@ -0,0 +1,113 @@
+package maxcut;
+
+import java.io.*;
+import java.util.*;
+
+public class MaxCutSolver {
+    public static void main(String[] args) {
+        // Parameters
+        double alpha = 0.5;
+        boolean reactiveGrasp = true; // GRASP iterations pick alpha adaptively (ReactiveAlpha)
+        int randomizedIterations = 100;
+        int localSearchK = 5; // Number of LS initial solutions
+//        long seed = 42;
+        String studentId = "2105057_3"; // Replace with your student ID
+        String csvFile = studentId + ".csv";
+
+        // Known best solutions
+        Map<String, Integer> knownBestSolutions = new HashMap<>();
+        knownBestSolutions.put("G1", 12078); knownBestSolutions.put("G2", 12084); knownBestSolutions.put("G3", 12077);
+        knownBestSolutions.put("G11", 627); knownBestSolutions.put("G12", 621); knownBestSolutions.put("G13", 645);
+        knownBestSolutions.put("G14", 3187); knownBestSolutions.put("G15", 3169); knownBestSolutions.put("G16", 3172);
+        knownBestSolutions.put("G22", 14123); knownBestSolutions.put("G23", 14129); knownBestSolutions.put("G24", 14131);
+        knownBestSolutions.put("G32", 1560); knownBestSolutions.put("G33", 1537); knownBestSolutions.put("G34", 1541);
+        knownBestSolutions.put("G35", 8000); knownBestSolutions.put("G36", 7996); knownBestSolutions.put("G37", 8009);
+        knownBestSolutions.put("G43", 7027); knownBestSolutions.put("G44", 7022); knownBestSolutions.put("G45", 7020);
+        knownBestSolutions.put("G48", 6000); knownBestSolutions.put("G49", 6000); knownBestSolutions.put("G50", 5988);
+
+        // Pipeline: graphs are solved concurrently, within this heap budget
+        int workers = Runtime.getRuntime().availableProcessors();
+        long memoryBudget = Runtime.getRuntime().maxMemory() * 3 / 4;
+        String jsonFile = studentId + ".jsonl";
+        File traceDir = new File("traces"); // per-iteration GRASP traces, one CSV per graph
+        File snapshotDir = new File("snapshots"); // best partition per graph, GRASP continues from it on the next run
+        long checkpointMillis = 60_000;
+        String[] header = {"Name", "|V|", "|E|", "Simple Randomized", "Simple Greedy", "Semi-greedy",
+                "Simple local No. of iterations", "Simple local Average value", "GRASP No. of iterations",
+                "GRASP Best value", "Known best solution or upper bound", "Optimum", "Upper bound"};
+
+        // Process 54 benchmark graphs
+//        String inputDir = "path/to/benchmark/graphs/"; // Replace with actual path
+        BenchmarkPipeline pipeline = new BenchmarkPipeline("set1", csvFile, jsonFile, header, workers, memoryBudget);
+        try {
+            pipeline.run(1, 54, (problemName, graph) -> {
+                Grasp grasp = new Grasp();
+
+                // Adjust parameters for large graphs
+                int graspIterations = graph.numVertices > 1000 || graph.numEdges > 20000 ? 2 : 50;
+                int localSearchDepth = graph.numVertices > 1000 || graph.numEdges > 20000 ? 2 : 100;
+
+                // Continue from the best partition of earlier runs, and keep saving it during this one
+                snapshotDir.mkdirs();
+                File snapshotFile = SolutionSnapshot.snapshotFileFor(snapshotDir, problemName);
+                if (snapshotFile.exists()) {
+                    try {
+                        grasp.setWarmStart(SolutionSnapshot.read(snapshotFile, graph));
+                    } catch (IOException e) {
+                        System.err.println("Ignoring snapshot: " + e.getMessage());
+                    }
+                }
+                grasp.setCheckpoint(snapshotFile, checkpointMillis);
+
+                // Run algorithms
+                ReactiveAlpha graspAlpha = reactiveGrasp ? new ReactiveAlpha() : ReactiveAlpha.fixed(alpha);
+                Grasp.GraspResult result = grasp.calculateGrasp(graph, alpha, graspAlpha, graspIterations, randomizedIterations, localSearchK, localSearchDepth);
+                traceDir.mkdirs();
+                result.trace.writeCsv(new File(traceDir, problemName + ".csv"));
+
+                // Published best cuts only; what this run proves about the graph goes in the last two columns
+                String knownBest = knownBestSolutions.containsKey(problemName) ? String.valueOf(knownBestSolutions.get(problemName)) : "";
+                return new String[]{
+                        problemName,
+                        String.valueOf(graph.numVertices),
+                        String.valueOf(graph.numEdges),
+                        String.format("%.2f", result.randomizedCutValue),
+                        String.format("%.2f", result.greedyCutValue),
+                        String.format("%.2f", result.semiGreedyCutValue),
+                        String.valueOf(result.localSearchIterations),
+                        String.format("%.2f", result.localSearchCutValue),
+                        String.valueOf(result.graspIterations),
+                        String.format("%.2f", result.graspCutValue),
+                        knownBest,
+                        optimum(graph),
+                        upperBound(graph)
+                };
+            });
+        } catch (IOException e) {
+            System.err.println("Error initializing CSV: " + e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        System.out.println("CSV file generated: " + csvFile);
+    }
+
+    // Proven optimum for graphs small enough for ExactMaxCut, empty if there is none or the time limit stopped it
+    static String optimum(Graph graph) {
+        if (graph.numVertices > ExactMaxCut.MAX_VERTICES) return "";
+        ExactMaxCut.ExactResult exact = ExactMaxCut.solve(graph, 60_000);
+        return exact.optimal ? String.format("%.0f", exact.cutValue) : "";
+    }
+
+    // Spectral upper bound, the reference for the optimality gap of graphs without a proven optimum
+    static String upperBound(Graph graph) {
+        // weights are integers, so the bound can be rounded down
+        return String.format("%.0f", Math.floor(ExactMaxCut.spectralUpperBound(graph, 100_000) + 1e-6));
+    }
+
+    static Graph readGraph(String filePath) throws IOException {
+        return RudParser.load(filePath);
+    }
+}
\ No newline at end of file
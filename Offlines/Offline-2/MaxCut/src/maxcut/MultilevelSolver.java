@@ -0,0 +1,207 @@
+package maxcut;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Multilevel MAX-CUT: coarsen the graph, solve the smallest level with GRASP, then project the
+ * partition back up and refine it with tabu search at every level.
+ *
+ * Coarsening is heavy-edge matching: each vertex is paired with the unmatched neighbour joined by the
+ * edge of largest |weight| and the pair becomes one coarse vertex. A pair joined by a positive edge is
+ * fixed on opposite sides and a pair joined by a negative edge on the same side, so the matched edge
+ * always contributes its best value. Every fine vertex keeps its coarse vertex and a flip bit
+ * (side = side of the coarse vertex XOR flip), which makes any fine cut equal to the coarse cut plus
+ * a constant offset:
+ * an edge between vertices with equal flips keeps its weight, an edge between different flips turns
+ * into -w and adds w to the offset, and an edge inside a pair is cut exactly when the flips differ.
+ *
+ * Usage: MultilevelSolver graph.rud [alpha] [graspIterations]
+ */
+public class MultilevelSolver {
+    private final Grasp grasp = new Grasp();
+    private final TabuSearch tabuSearch = new TabuSearch();
+    private final Random random = new Random();
+
+    // Stop coarsening below coarsestSize vertices or when a level removes less than 10% of them
+    private final int coarsestSize;
+    // Tabu moves per vertex when refining a projected partition
+    private final int refineMovesPerVertex;
+
+    public MultilevelSolver() {
+        this(200, 20);
+    }
+
+    public MultilevelSolver(int coarsestSize, int refineMovesPerVertex) {
+        this.coarsestSize = coarsestSize;
+        this.refineMovesPerVertex = refineMovesPerVertex;
+    }
+
+    public static class MultilevelResult {
+        public Partition partition;
+        public double cutValue;
+        public int levels;
+        public int coarsestVertices;
+
+        public MultilevelResult(Partition partition, double cutValue, int levels, int coarsestVertices) {
+            this.partition = partition;
+            this.cutValue = cutValue;
+            this.levels = levels;
+            this.coarsestVertices = coarsestVertices;
+        }
+    }
+
+    // One coarsening step: fine vertex v becomes coarse vertex coarse[v], on the opposite side if flipped[v]
+    private static class Level {
+        final Graph fine;
+        final Graph coarse;
+        final int[] coarseVertex;
+        final boolean[] flipped;
+        final long offset; // fine cut = coarse cut + offset
+
+        Level(Graph fine, Graph coarse, int[] coarseVertex, boolean[] flipped, long offset) {
+            this.fine = fine;
+            this.coarse = coarse;
+            this.coarseVertex = coarseVertex;
+            this.flipped = flipped;
+            this.offset = offset;
+        }
+
+        Partition project(Partition coarsePartition) {
+            Partition partition = new Partition(fine.numVertices);
+            for (int v = 1; v <= fine.numVertices; v++) {
+                partition.set(v, coarsePartition.isInX(coarseVertex[v]) != flipped[v]);
+            }
+            return partition;
+        }
+    }
+
+    public MultilevelResult solve(Graph graph, double alpha, int graspIterations) {
+        List<Level> levels = new ArrayList<>();
+        Graph current = graph;
+        while (current.numVertices > coarsestSize) {
+            Level level = coarsen(current);
+            if (level == null) break;
+            levels.add(level);
+            current = level.coarse;
+        }
+
+        grasp.runGrasp(current, alpha, graspIterations, Integer.MAX_VALUE, Double.POSITIVE_INFINITY);
+        Partition partition = grasp.getBestPartition();
+        if (partition == null) partition = new Partition(current.numVertices);
+        double cutValue = current.cutWeight(partition);
+
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            Level level = levels.get(i);
+            TabuSearch.TabuResult refined = tabuSearch.improve(level.fine, level.project(partition),
+                    refineMovesPerVertex * level.fine.numVertices);
+            partition = refined.partition;
+            cutValue = refined.cutValue;
+        }
+        return new MultilevelResult(partition, cutValue, levels.size(), current.numVertices);
+    }
+
+    // Heavy-edge matching and contraction, or null if the graph barely shrinks
+    private Level coarsen(Graph graph) {
+        graph.buildCsr();
+        int n = graph.numVertices;
+        int[] adjStart = graph.adjStart, adjTarget = graph.adjTarget, adjWeight = graph.adjWeight;
+
+        int[] order = new int[n];
+        for (int v = 1; v <= n; v++) order[v - 1] = v;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        int[] coarseVertex = new int[n + 1];
+        boolean[] flipped = new boolean[n + 1];
+        int[] first = new int[n + 1];
+        int[] second = new int[n + 1];
+        int coarseCount = 0;
+        for (int v : order) {
+            if (coarseVertex[v] != 0) continue;
+            int mate = 0, mateWeight = 0;
+            for (int i = adjStart[v]; i < adjStart[v + 1]; i++) {
+                int u = adjTarget[i];
+                if (u == v || coarseVertex[u] != 0) continue;
+                if (Math.abs(adjWeight[i]) > Math.abs(mateWeight)) {
+                    mate = u;
+                    mateWeight = adjWeight[i];
+                }
+            }
+            coarseCount++;
+            coarseVertex[v] = coarseCount;
+            first[coarseCount] = v;
+            if (mate != 0) {
+                coarseVertex[mate] = coarseCount;
+                flipped[mate] = mateWeight > 0;
+                second[coarseCount] = mate;
+            }
+        }
+        if (coarseCount > n * 0.9) return null;
+
+        // Merge the edges of both members per coarse vertex, summing parallel edges in acc.
+        // mark[cy] == c when cy is already in this vertex's touched list
+        int[] start = new int[coarseCount + 2];
+        int[] target = new int[adjTarget.length];
+        int[] weight = new int[adjTarget.length];
+        long[] acc = new long[coarseCount + 1];
+        int[] touched = new int[coarseCount];
+        int[] mark = new int[coarseCount + 1];
+        long offset = 0;
+        int entries = 0;
+        for (int c = 1; c <= coarseCount; c++) {
+            int touchedCount = 0;
+            for (int m = 0; m < 2; m++) {
+                int x = m == 0 ? first[c] : second[c];
+                if (x == 0) continue;
+                for (int i = adjStart[x]; i < adjStart[x + 1]; i++) {
+                    int y = adjTarget[i], w = adjWeight[i];
+                    boolean sameFlip = flipped[x] == flipped[y];
+                    if (!sameFlip && x < y) offset += w; // each undirected edge once
+                    int cy = coarseVertex[y];
+                    if (cy == c) continue;
+                    if (mark[cy] != c) {
+                        mark[cy] = c;
+                        touched[touchedCount++] = cy;
+                    }
+                    acc[cy] += sameFlip ? w : -w;
+                }
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                int cy = touched[t];
+                if (acc[cy] != 0) {
+                    target[entries] = cy;
+                    weight[entries++] = Math.toIntExact(acc[cy]);
+                    acc[cy] = 0;
+                }
+            }
+            start[c + 1] = entries;
+        }
+
+        Graph coarse = new Graph(coarseCount, entries / 2, start,
+                Arrays.copyOf(target, entries), Arrays.copyOf(weight, entries));
+        return new Level(graph, coarse, coarseVertex, flipped, offset);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: MultilevelSolver graph.rud [alpha] [graspIterations]");
+            return;
+        }
+        double alpha = args.length > 1 ? Double.parseDouble(args[1]) : 0.5;
+        int graspIterations = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        Graph graph = RudParser.load(args[0]);
+        long start = System.nanoTime();
+        MultilevelResult result = new MultilevelSolver().solve(graph, alpha, graspIterations);
+        System.out.printf("Multilevel: %.0f (%d levels, coarsest %d vertices, %.1f s)%n", result.cutValue,
+                result.levels, result.coarsestVertices, (System.nanoTime() - start) / 1e9);
+    }
+}
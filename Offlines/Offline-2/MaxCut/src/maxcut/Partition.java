@@ -0,0 +1,119 @@
+package maxcut;
+
+import java.util.Random;
+
+/**
+ * A two-way partition of the vertices 1..numVertices, stored as a bitset: bit v is set when v is in X,
+ * clear when it is in Y. Side lookups and moves are O(1), copies are a single array copy and
+ * the part sizes come from popcounts.
+ */
+public class Partition {
+    private final int numVertices;
+    private final long[] words;
+
+    public Partition(int numVertices) {
+        this.numVertices = numVertices;
+        this.words = new long[(numVertices >> 6) + 1];
+    }
+
+    public Partition(Partition other) {
+        this.numVertices = other.numVertices;
+        this.words = other.words.clone();
+    }
+
+    // Every vertex on a fair coin flip
+    public static Partition random(int numVertices, Random random) {
+        Partition partition = new Partition(numVertices);
+        for (int i = 0; i < partition.words.length; i++) {
+            partition.words[i] = random.nextLong();
+        }
+        partition.words[0] &= ~1L; // there is no vertex 0
+        partition.clearTail();
+        return partition;
+    }
+
+    public int getNumVertices() {
+        return numVertices;
+    }
+
+    public boolean isInX(int v) {
+        return (words[v >> 6] & (1L << v)) != 0;
+    }
+
+    public void moveToX(int v) {
+        words[v >> 6] |= 1L << v;
+    }
+
+    public void moveToY(int v) {
+        words[v >> 6] &= ~(1L << v);
+    }
+
+    public void set(int v, boolean inX) {
+        if (inX) moveToX(v);
+        else moveToY(v);
+    }
+
+    public void flip(int v) {
+        words[v >> 6] ^= 1L << v;
+    }
+
+    public Partition copy() {
+        return new Partition(this);
+    }
+
+    public void copyFrom(Partition other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    public int sizeX() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    public int sizeY() {
+        return numVertices - sizeX();
+    }
+
+    // True when |X| and |Y| differ by at most tolerance
+    public boolean isBalanced(int tolerance) {
+        return Math.abs(2 * sizeX() - numVertices) <= tolerance;
+    }
+
+    // Vertices on different sides, up to swapping X and Y (both describe the same cut)
+    public int distance(Partition other) {
+        int differ = differingVertices(other);
+        return Math.min(differ, numVertices - differ);
+    }
+
+    public int differingVertices(Partition other) {
+        int differ = 0;
+        for (int i = 0; i < words.length; i++) {
+            differ += Long.bitCount(words[i] ^ other.words[i]);
+        }
+        return differ;
+    }
+
+    // Raw bitset words, bit v of the whole array is vertex v. Not a copy.
+    long[] words() {
+        return words;
+    }
+
+    private void clearTail() {
+        int used = (numVertices + 1) & 63;
+        if (used != 0) {
+            words[words.length - 1] &= (1L << used) - 1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Partition{" +
+                "numVertices=" + numVertices +
+                ", sizeX=" + sizeX() +
+                ", sizeY=" + sizeY() +
+                '}';
+    }
+}
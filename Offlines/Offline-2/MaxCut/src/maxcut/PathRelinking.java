@@ -0,0 +1,104 @@
+package maxcut;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Path relinking for GRASP: walks from a new solution towards an elite solution one vertex at a time,
+ * always taking the best-gain move among the vertices that still differ, and returns the best
+ * partition seen strictly between the two ends.
+ */
+public class PathRelinking {
+
+    /**
+     * Small pool of the best distinct solutions found so far.
+     */
+    public static class ElitePool {
+        private final int capacity;
+        private final List<Partition> solutions = new ArrayList<>();
+        private final List<Double> cutValues = new ArrayList<>();
+
+        public ElitePool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public boolean isEmpty() {
+            return solutions.isEmpty();
+        }
+
+        public int size() {
+            return solutions.size();
+        }
+
+        public Partition pick(Random random) {
+            return solutions.get(random.nextInt(solutions.size()));
+        }
+
+        // Adds the solution if it is new and either the pool has room or it beats the worst member
+        public boolean offer(Partition partition, double cutValue) {
+            if (capacity <= 0) return false;
+            int worst = -1;
+            for (int i = 0; i < solutions.size(); i++) {
+                if (solutions.get(i).distance(partition) == 0) return false;
+                if (worst == -1 || cutValues.get(i) < cutValues.get(worst)) worst = i;
+            }
+            if (solutions.size() < capacity) {
+                solutions.add(partition.copy());
+                cutValues.add(cutValue);
+                return true;
+            }
+            if (cutValue > cutValues.get(worst)) {
+                solutions.set(worst, partition.copy());
+                cutValues.set(worst, cutValue);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public TabuSearch.TabuResult relink(Graph graph, Partition start, Partition guide) {
+        int n = graph.numVertices;
+
+        // Relink towards whichever of guide / complement(guide) is closer
+        int differ = start.differingVertices(guide);
+        boolean complement = differ > n - differ;
+
+        // Vertices still to flip, keyed by their gain
+        Solution solution = new Solution(graph, start);
+        GainHeap pending = new GainHeap(n);
+        int count = 0;
+        for (int v = 1; v <= n; v++) {
+            if ((start.isInX(v) != guide.isInX(v)) != complement) {
+                pending.insert(v, solution.gain(v));
+                count++;
+            }
+        }
+
+        long bestCut = Long.MIN_VALUE;
+        Partition best = null;
+        int steps = 0;
+
+        // The last step would land on the guide itself, so stop one short of it
+        while (count > 1) {
+            int v = pending.poll();
+            count--;
+
+            solution.flip(v);
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+                int u = graph.adjTarget[i];
+                pending.update(u, solution.gain(u));
+            }
+            steps++;
+            if (solution.getCutValue() > bestCut) {
+                bestCut = (long) solution.getCutValue();
+                best = solution.getPartition().copy();
+            }
+        }
+
+        if (best == null) {
+            return new TabuSearch.TabuResult(start.copy(), solution.getCutValue(), 0);
+        }
+        return new TabuSearch.TabuResult(best, bestCut, steps);
+    }
+}
@@ -0,0 +1,32 @@
+package maxcut;
+
+import java.util.Random;
+
+public class RandomizedHeuristic {
+
+    public double calculateRandomizedHeuristic(Graph graph,int numIterations){
+        double totalCutWeight = 0;
+        Random random = new Random();
+        CutKernel kernel = CutKernel.forGraph(graph);
+
+        // Random partitions are generated and evaluated 32 at a time:
+        // one random int per vertex holds its side in each of the 32 candidates
+        int[] packedSides = new int[graph.numVertices + 1];
+        long[] cutWeights = new long[CutKernel.MAX_BATCH];
+        for(int done=0;done<numIterations;done+=CutKernel.MAX_BATCH){
+            int batch = Math.min(CutKernel.MAX_BATCH, numIterations - done);
+
+            for(int j=1;j<=graph.numVertices;j++){
+                packedSides[j] = random.nextInt();
+            }
+
+            kernel.cutWeights(packedSides, batch, cutWeights);
+            for(int k=0;k<batch;k++){
+                totalCutWeight += cutWeights[k];
+            }
+        }
+
+        return  totalCutWeight / numIterations;
+
+    }
+}
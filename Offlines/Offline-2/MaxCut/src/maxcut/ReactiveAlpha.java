@@ -0,0 +1,99 @@
+package maxcut;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Alpha selection for reactive GRASP.
+ *
+ * Each iteration draws alpha from a fixed set with probabilities p_i. Every updatePeriod iterations
+ * the probabilities are recomputed from the average cut each alpha produced:
+ * q_i = (average_i / best)^delta, p_i = q_i / sum(q). Alphas that were never tried get q_i = 1
+ * so they keep being sampled. All statistics live in primitive arrays.
+ */
+public class ReactiveAlpha {
+    public static final double[] DEFAULT_ALPHAS = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+
+    private final double[] alphas;
+    private final double[] probability;
+    private final double[] sumCutValue;
+    private final int[] count;
+    private final int updatePeriod;
+    private final double delta;
+    private double bestCutValue = -Double.MAX_VALUE;
+    private int sinceUpdate;
+
+    public ReactiveAlpha() {
+        this(DEFAULT_ALPHAS, 10, 10.0);
+    }
+
+    public ReactiveAlpha(double[] alphas, int updatePeriod, double delta) {
+        this.alphas = alphas.clone();
+        this.probability = new double[alphas.length];
+        this.sumCutValue = new double[alphas.length];
+        this.count = new int[alphas.length];
+        this.updatePeriod = updatePeriod;
+        this.delta = delta;
+        Arrays.fill(probability, 1.0 / alphas.length);
+    }
+
+    // A single alpha that is always chosen, i.e. plain GRASP
+    public static ReactiveAlpha fixed(double alpha) {
+        return new ReactiveAlpha(new double[]{alpha}, Integer.MAX_VALUE, 1.0);
+    }
+
+    public int select(Random random) {
+        if (alphas.length == 1) return 0;
+        double r = random.nextDouble();
+        for (int i = 0; i < alphas.length - 1; i++) {
+            r -= probability[i];
+            if (r < 0) return i;
+        }
+        return alphas.length - 1;
+    }
+
+    public double alpha(int index) {
+        return alphas[index];
+    }
+
+    // Records the cut value an iteration reached with alphas[index]
+    public void report(int index, double cutValue) {
+        sumCutValue[index] += cutValue;
+        count[index]++;
+        if (cutValue > bestCutValue) bestCutValue = cutValue;
+        if (++sinceUpdate >= updatePeriod) {
+            sinceUpdate = 0;
+            updateProbabilities();
+        }
+    }
+
+    private void updateProbabilities() {
+        // The ratio to the best cut is only meaningful for positive cut values
+        if (bestCutValue <= 0) return;
+        double total = 0;
+        for (int i = 0; i < alphas.length; i++) {
+            double q = 1.0;
+            if (count[i] > 0) {
+                double ratio = Math.max(0, sumCutValue[i] / count[i] / bestCutValue);
+                q = Math.pow(ratio, delta);
+            }
+            probability[i] = q;
+            total += q;
+        }
+        for (int i = 0; i < alphas.length; i++) {
+            probability[i] = total > 0 ? probability[i] / total : 1.0 / alphas.length;
+        }
+    }
+
+    public double[] getAlphas() {
+        return alphas.clone();
+    }
+
+    public double[] getProbabilities() {
+        return probability.clone();
+    }
+
+    public int[] getCounts() {
+        return count.clone();
+    }
+}
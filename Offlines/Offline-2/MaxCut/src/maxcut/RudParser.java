@@ -0,0 +1,170 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads rudy (.rud) graph files: a "numVertices numEdges" line followed by one "u v weight" line per edge.
+ * An edge listed more than once (either way round) is kept once, with the weight of its last line.
+ *
+ * The file is scanned byte by byte through an NIO buffer and the edges go straight into CSR arrays,
+ * so no String or boxed Integer is created per edge. After a successful parse a binary snapshot
+ * (see CsrSnapshot) is written next to the file and used by later loads while it is newer than the .rud.
+ */
+public class RudParser {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final String filePath;
+
+    private RudParser(FileChannel channel, String filePath) {
+        this.channel = channel;
+        this.filePath = filePath;
+        buffer.flip(); // start empty
+    }
+
+    public static Graph load(String filePath) throws IOException {
+        File source = new File(filePath);
+        File snapshot = CsrSnapshot.snapshotFileFor(source);
+        if (snapshot.exists() && snapshot.lastModified() >= source.lastModified()) {
+            try {
+                return CsrSnapshot.read(snapshot);
+            } catch (IOException e) {
+                // corrupt or old format, fall back to parsing the text file
+            }
+        }
+
+        Graph graph = parse(filePath);
+        try {
+            CsrSnapshot.write(graph, snapshot);
+        } catch (IOException e) {
+            // the snapshot is only a cache, e.g. the input directory may be read-only
+            snapshot.delete();
+        }
+        return graph;
+    }
+
+    public static Graph parse(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return new RudParser(channel, filePath).readGraph();
+        }
+    }
+
+    /**
+     * Converts a .rud file to the CSR file format without holding the graph in memory:
+     * the file is read twice by CsrSnapshot.writeStreaming, once to count degrees and once to write
+     * every edge into the memory-mapped output. Open the result with MappedCsrGraph.
+     */
+    public static void convertToCsr(String filePath, File csrFile) throws IOException {
+        int numVertices, numEdges;
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            RudParser parser = new RudParser(channel, filePath);
+            numVertices = parser.nextInt();
+            numEdges = parser.nextInt();
+        }
+        CsrSnapshot.writeStreaming(csrFile, numVertices, sink -> {
+            try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+                RudParser parser = new RudParser(channel, filePath);
+                parser.nextInt();
+                parser.nextInt();
+                for (int i = 0; i < numEdges; i++) {
+                    int u = parser.nextInt(), v = parser.nextInt(), w = parser.nextInt();
+                    parser.checkEdge(i, u, v, numVertices);
+                    sink.edge(u, v, w);
+                }
+            }
+        });
+    }
+
+    private void checkEdge(int index, int u, int v, int numVertices) throws IOException {
+        if (u < 1 || u > numVertices || v < 1 || v > numVertices) {
+            throw new IOException(filePath + ": edge " + (index + 1) + " has a vertex out of range");
+        }
+    }
+
+    private Graph readGraph() throws IOException {
+        int numVertices = nextInt();
+        int numEdges = nextInt();
+
+        // Edge list first, then count degrees and scatter into CSR
+        int[] from = new int[numEdges];
+        int[] to = new int[numEdges];
+        int[] weight = new int[numEdges];
+        int[] adjStart = new int[numVertices + 2];
+        for (int i = 0; i < numEdges; i++) {
+            int u = nextInt();
+            int v = nextInt();
+            int w = nextInt();
+            checkEdge(i, u, v, numVertices);
+            from[i] = u;
+            to[i] = v;
+            weight[i] = w;
+            if (u != v) { // a self loop can never be cut
+                adjStart[u + 1]++;
+                adjStart[v + 1]++;
+            }
+        }
+        for (int v = 1; v <= numVertices; v++) {
+            adjStart[v + 1] += adjStart[v];
+        }
+
+        int[] next = new int[numVertices + 1];
+        System.arraycopy(adjStart, 0, next, 0, numVertices + 1);
+        int[] adjTarget = new int[adjStart[numVertices + 1]];
+        int[] adjWeight = new int[adjTarget.length];
+        for (int i = 0; i < numEdges; i++) {
+            int u = from[i], v = to[i];
+            if (u == v) continue;
+            adjTarget[next[u]] = v;
+            adjWeight[next[u]++] = weight[i];
+            adjTarget[next[v]] = u;
+            adjWeight[next[v]++] = weight[i];
+        }
+
+        // An edge listed twice keeps the weight of its last line
+        int dropped = CsrSnapshot.mergeRepeatedEdges(numVertices, adjStart, CsrSnapshot.slots(adjTarget), CsrSnapshot.slots(adjWeight));
+        if (dropped > 0) {
+            adjTarget = Arrays.copyOf(adjTarget, adjStart[numVertices + 1]);
+            adjWeight = Arrays.copyOf(adjWeight, adjStart[numVertices + 1]);
+        }
+        return new Graph(numVertices, numEdges - dropped / 2, adjStart, adjTarget, adjWeight);
+    }
+
+    // Next optionally signed decimal integer, skipping any whitespace before it
+    private int nextInt() throws IOException {
+        int b = nextByte();
+        while (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+            b = nextByte();
+        }
+        boolean negative = false;
+        if (b == '-') {
+            negative = true;
+            b = nextByte();
+        }
+        if (b < '0' || b > '9') {
+            throw new IOException(filePath + ": expected a number" + (b < 0 ? " but reached end of file" : ""));
+        }
+        int value = 0;
+        while (b >= '0' && b <= '9') {
+            value = value * 10 + (b - '0');
+            b = nextByte();
+        }
+        return negative ? -value : value;
+    }
+
+    private int nextByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            buffer.flip();
+            if (read <= 0) return -1;
+        }
+        return buffer.get();
+    }
+}
@@ -0,0 +1,180 @@
+package maxcut;
+
+import java.util.*;
+
+public class SemiGreedyHeuristic {
+    private Partition partition; // Store the partition of the last run
+
+    /**
+     * Calculates the Semi-Greedy heuristic for MAX-CUT and stores the resulting partitions.
+     * @param graph The input graph
+     * @param alpha The alpha parameter for the Restricted Candidate List
+     * @return A SemiGreedyResult containing the cut value and partitions
+     */
+    public SemiGreedyResult calculateSemiGreedy(Graph graph, double alpha) {
+        // Initialize partitions and remaining vertices
+        graph.buildCsr();
+        partition = new Partition(graph.numVertices);
+        boolean[] placed = new boolean[graph.numVertices + 1];
+
+        // Remaining vertices are kept in remaining[0 .. remainingCount-1]
+        int[] remaining = new int[graph.numVertices];
+        int[] position = new int[graph.numVertices + 1];
+        int remainingCount = graph.numVertices;
+        for (int v = 1; v <= graph.numVertices; v++) {
+            remaining[v - 1] = v;
+            position[v] = v - 1;
+        }
+
+        // Step-1: Select initial edge using semi-greedy method
+        Edge initialEdge;
+
+        // SubStep-1: Calculate the threshold value μ
+        if (graph.maxEdge == null || graph.minEdge == null) {
+            graph.findCriticalEdges();
+        }
+        int wMin = graph.minEdge.weight;
+        int wMax = graph.maxEdge.weight;
+        double threshold = wMin + alpha * (wMax - wMin);
+
+        // SubStep-2: Construct a Restricted Candidate List (RCL) for edges
+        List<Edge> initialRcl = new ArrayList<>();
+        for (int u = 1; u <= graph.numVertices; u++) {
+            for (int i = graph.adjStart[u]; i < graph.adjStart[u + 1]; i++) {
+                int v = graph.adjTarget[i];
+                int weight = graph.adjWeight[i];
+                if (u < v && weight >= threshold) {
+                    initialRcl.add(new Edge(u, v, weight));
+                }
+            }
+        }
+
+        // SubStep-3: Choose a random edge from the initial RCL
+        Random random = new Random();
+        if (initialRcl.isEmpty()) {
+            // Fallback: Use the max edge if RCL is empty
+            initialEdge = graph.maxEdge;
+        } else {
+            int index = random.nextInt(initialRcl.size());
+            initialEdge = initialRcl.get(index);
+        }
+
+        // Insert the initial edge's vertices into the partitions
+        // sigmaX[v] / sigmaY[v]: weight from v to placed vertices in Y / X, updated as vertices are placed,
+        // and the cut value of the placed vertices so far
+        double[] sigmaX = new double[graph.numVertices + 1];
+        double[] sigmaY = new double[graph.numVertices + 1];
+        double cutValue = 0;
+        cutValue += place(graph, partition, placed, sigmaX, sigmaY, initialEdge.from, true);
+        cutValue += place(graph, partition, placed, sigmaX, sigmaY, initialEdge.to, false);
+        remainingCount = removeVertex(remaining, position, remainingCount, initialEdge.from);
+        remainingCount = removeVertex(remaining, position, remainingCount, initialEdge.to);
+
+        // Step-2: Place the remaining vertices into either partitionX or partitionY
+        int[] rcl = new int[graph.numVertices];
+        while (remainingCount > 0) {
+            // Calculate greedy function values and construct RCL
+            double minSigmaX = Double.MAX_VALUE;
+            double minSigmaY = Double.MAX_VALUE;
+            double maxSigmaX = Double.MIN_VALUE;
+            double maxSigmaY = Double.MIN_VALUE;
+
+            for (int i = 0; i < remainingCount; i++) {
+                int v = remaining[i];
+                minSigmaX = Math.min(minSigmaX, sigmaX[v]);
+                minSigmaY = Math.min(minSigmaY, sigmaY[v]);
+                maxSigmaX = Math.max(maxSigmaX, sigmaX[v]);
+                maxSigmaY = Math.max(maxSigmaY, sigmaY[v]);
+            }
+
+            // Calculate threshold for the RCL
+            double minWeight = Math.min(minSigmaX, minSigmaY);
+            double maxWeight = Math.max(maxSigmaX, maxSigmaY);
+            double vertexThreshold = minWeight + alpha * (maxWeight - minWeight);
+
+            // Construct RCL based on greedy function values
+            // (the RCL holds indices into remaining)
+            int rclSize = 0;
+            for (int i = 0; i < remainingCount; i++) {
+                int v = remaining[i];
+                if (Math.max(sigmaX[v], sigmaY[v]) >= vertexThreshold) {
+                    rcl[rclSize++] = i;
+                }
+            }
+
+            // Choose a random vertex from the RCL
+            int chosen;
+            if (rclSize == 0) {
+                // Fallback: Choose the vertex with the highest greedy value
+                chosen = 0;
+                double maxValue = Double.MIN_VALUE;
+                for (int i = 0; i < remainingCount; i++) {
+                    int v = remaining[i];
+                    if (Math.max(sigmaX[v], sigmaY[v]) > maxValue) {
+                        maxValue = Math.max(sigmaX[v], sigmaY[v]);
+                        chosen = i;
+                    }
+                }
+            } else {
+                chosen = rcl[random.nextInt(rclSize)];
+            }
+            int chosenVertex = remaining[chosen];
+
+            // Add chosen vertex to set X or Y based on which cut is greater
+            boolean toX = sigmaX[chosenVertex] >= sigmaY[chosenVertex];
+            cutValue += place(graph, partition, placed, sigmaX, sigmaY, chosenVertex, toX);
+
+            // Remove the chosen vertex from remaining vertices
+            remainingCount = removeVertex(remaining, position, remainingCount, chosenVertex);
+        }
+
+        // Every vertex is placed, so the running value is the final cut value
+        return new SemiGreedyResult(cutValue, partition.copy());
+    }
+
+    // Places v on the given side, updates its unplaced neighbours' sigmas and returns the cut weight it adds
+    private static double place(Graph graph, Partition partition, boolean[] placed,
+                                double[] sigmaX, double[] sigmaY, int v, boolean toX) {
+        partition.set(v, toX);
+        placed[v] = true;
+        for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+            int u = graph.adjTarget[i];
+            if (placed[u]) continue;
+            if (toX) {
+                sigmaY[u] += graph.adjWeight[i];
+            } else {
+                sigmaX[u] += graph.adjWeight[i];
+            }
+        }
+        return toX ? sigmaX[v] : sigmaY[v];
+    }
+
+    // Swap-removes v from remaining[0 .. count-1] and returns the new count
+    private static int removeVertex(int[] remaining, int[] position, int count, int v) {
+        int last = remaining[count - 1];
+        remaining[position[v]] = last;
+        position[last] = position[v];
+        return count - 1;
+    }
+
+    /**
+     * Gets the partition from the last run
+     * @return Copy of the partition
+     */
+    public Partition getPartition() {
+        return partition.copy();
+    }
+}
+
+/**
+ * Class to store the result of the Semi-Greedy heuristic
+ */
+class SemiGreedyResult {
+    public double cutValue;
+    public Partition partition;
+
+    public SemiGreedyResult(double cutValue, Partition partition) {
+        this.cutValue = cutValue;
+        this.partition = partition;
+    }
+}
\ No newline at end of file
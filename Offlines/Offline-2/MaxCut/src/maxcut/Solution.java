@@ -0,0 +1,70 @@
+package maxcut;
+
+/**
+ * A complete partition together with its cut value and, for every vertex, the gain of moving it
+ * to the other side. flip(v) keeps all three up to date in O(deg(v)), so the cut value never has
+ * to be recomputed from scratch while a search is running.
+ */
+public class Solution {
+    private final Graph graph;
+    private final Partition partition;
+    private final long[] gain;
+    private long cutValue;
+
+    public Solution(Graph graph, Partition partition) {
+        graph.buildCsr();
+        this.graph = graph;
+        this.partition = partition.copy();
+        this.gain = new long[graph.numVertices + 1];
+        this.cutValue = (long) graph.cutWeight(partition);
+
+        // gain[v] = (weight to v's own side) - (weight to the other side)
+        for (int v = 1; v <= graph.numVertices; v++) {
+            long g = 0;
+            boolean side = partition.isInX(v);
+            for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+                int w = graph.adjWeight[i];
+                g += partition.isInX(graph.adjTarget[i]) == side ? w : -w;
+            }
+            gain[v] = g;
+        }
+    }
+
+    public Solution(Solution other) {
+        this.graph = other.graph;
+        this.partition = other.partition.copy();
+        this.gain = other.gain.clone();
+        this.cutValue = other.cutValue;
+    }
+
+    // Change of the cut value if v switched side
+    public long gain(int v) {
+        return gain[v];
+    }
+
+    // Moves v to the other side and updates the cut value and the gains it affects
+    public void flip(int v) {
+        cutValue += gain[v];
+        partition.flip(v);
+        gain[v] = -gain[v];
+        boolean side = partition.isInX(v);
+        for (int i = graph.adjStart[v]; i < graph.adjStart[v + 1]; i++) {
+            int u = graph.adjTarget[i];
+            long twice = 2L * graph.adjWeight[i];
+            gain[u] += partition.isInX(u) == side ? twice : -twice;
+        }
+    }
+
+    public double getCutValue() {
+        return cutValue;
+    }
+
+    // Live view, copy it before keeping it past the next flip
+    public Partition getPartition() {
+        return partition;
+    }
+
+    public Graph getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,91 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Best partition found for a graph, saved so that later runs can continue from it.
+ *
+ * Layout (little endian): int MAGIC, int VERSION, int numVertices, int numEdges, double cutValue,
+ * long iterations (GRASP iterations behind this solution, summed over all runs), long savedAtMillis,
+ * then the Partition bitset words. A 2000 vertex solution is 296 bytes (40 byte header + 32 words).
+ */
+public class SolutionSnapshot {
+    public static final int MAGIC = 0x4C4F534D; // "MSOL"
+    public static final int VERSION = 1;
+    public static final String EXTENSION = ".sol";
+    private static final int HEADER_BYTES = 4 * 4 + 3 * 8;
+
+    public final Partition partition;
+    public final double cutValue;
+    public final long iterations;
+    public final long savedAtMillis;
+
+    public SolutionSnapshot(Partition partition, double cutValue, long iterations, long savedAtMillis) {
+        this.partition = partition;
+        this.cutValue = cutValue;
+        this.iterations = iterations;
+        this.savedAtMillis = savedAtMillis;
+    }
+
+    public static File snapshotFileFor(File directory, String problemName) {
+        return new File(directory, problemName + EXTENSION);
+    }
+
+    public static void write(File file, Graph graph, Partition partition, double cutValue, long iterations) throws IOException {
+        long[] words = partition.words();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(graph.numVertices).putInt(graph.numEdges)
+                .putDouble(cutValue).putLong(iterations).putLong(System.currentTimeMillis());
+        for (long word : words) buffer.putLong(word);
+        buffer.flip();
+
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(false);
+        }
+        // rename last so that an interrupted run keeps the previous snapshot intact
+        if (!tmp.renameTo(file)) {
+            file.delete();
+            if (!tmp.renameTo(file)) throw new IOException("cannot replace " + file);
+        }
+    }
+
+    /**
+     * Reads a snapshot saved for this graph. The cut value is recomputed from the partition,
+     * so a snapshot of a different graph with the same size is still safe to start from.
+     */
+    public static SolutionSnapshot read(File file, Graph graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Partition partition = new Partition(graph.numVertices);
+            long[] words = partition.words();
+            if (channel.size() != HEADER_BYTES + words.length * 8L) {
+                throw new IOException(file + ": not a solution snapshot for this graph");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) { }
+            buffer.flip();
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(file + ": not a solution snapshot (version " + VERSION + ")");
+            }
+            if (buffer.getInt() != graph.numVertices || buffer.getInt() != graph.numEdges) {
+                throw new IOException(file + ": snapshot is for a different graph");
+            }
+            buffer.getDouble(); // stored cut, recomputed below
+            long iterations = buffer.getLong();
+            long savedAtMillis = buffer.getLong();
+            for (int i = 0; i < words.length; i++) words[i] = buffer.getLong();
+
+            int tailBits = (graph.numVertices + 1) & 63;
+            long tail = tailBits == 0 ? 0 : words[words.length - 1] >>> tailBits;
+            if ((words[0] & 1L) != 0 || tail != 0) throw new IOException(file + ": corrupt partition bits");
+            return new SolutionSnapshot(partition, graph.cutWeight(partition), iterations, savedAtMillis);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package maxcut;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * MAX-CUT heuristics for graphs that do not fit in the heap, running on a MappedCsrGraph.
+ *
+ * Every algorithm walks adjacency ranges straight out of the mapped file and keeps only per-vertex
+ * state on the heap: the Partition bitset, a placed flag and one long per vertex for sigmas or gains.
+ *
+ * Usage: StreamingMaxCut graph.rud|graph.csr [alpha] [localSearchPasses]
+ */
+public class StreamingMaxCut {
+    // Semi-greedy looks at this many random remaining vertices per step instead of all of them
+    private static final int RCL_SAMPLE = 64;
+
+    private final Random random = new Random();
+
+    public static class StreamingResult {
+        public Partition partition;
+        public double cutValue;
+        public int passes;
+
+        public StreamingResult(Partition partition, double cutValue, int passes) {
+            this.partition = partition;
+            this.cutValue = cutValue;
+            this.passes = passes;
+        }
+    }
+
+    // One sequential pass over the edges
+    public static double cutWeight(MappedCsrGraph graph, Partition partition) {
+        long cut = 0;
+        for (int u = 1; u <= graph.numVertices; u++) {
+            if (!partition.isInX(u)) continue;
+            for (int i = graph.start(u); i < graph.end(u); i++) {
+                if (!partition.isInX(graph.target(i))) cut += graph.weight(i);
+            }
+        }
+        return cut;
+    }
+
+    /**
+     * Greedy in vertex order: each vertex goes to the side that cuts more weight to the vertices
+     * placed before it. A single sequential pass over the edge file.
+     */
+    public StreamingResult greedy(MappedCsrGraph graph) {
+        Partition partition = new Partition(graph.numVertices);
+        long cut = 0;
+        for (int v = 1; v <= graph.numVertices; v++) {
+            long sigmaX = 0, sigmaY = 0; // weight to placed vertices in Y / in X
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                int u = graph.target(i);
+                if (u >= v) continue; // not placed yet
+                if (partition.isInX(u)) sigmaY += graph.weight(i);
+                else sigmaX += graph.weight(i);
+            }
+            boolean toX = sigmaX > sigmaY;
+            partition.set(v, toX);
+            cut += toX ? sigmaX : sigmaY;
+        }
+        return new StreamingResult(partition, cut, 1);
+    }
+
+    /**
+     * Semi-greedy construction. The RCL is built from a random sample of RCL_SAMPLE remaining vertices
+     * per step, so a step costs O(sample + deg) instead of O(|V|). sigmaX/sigmaY are per-vertex arrays
+     * updated from the chosen vertex's edges as it is placed.
+     */
+    public StreamingResult semiGreedy(MappedCsrGraph graph, double alpha) {
+        int n = graph.numVertices;
+        Partition partition = new Partition(n);
+        long[] sigmaX = new long[n + 1];
+        long[] sigmaY = new long[n + 1];
+        int[] remaining = new int[n];
+        int[] position = new int[n + 1];
+        for (int v = 1; v <= n; v++) {
+            remaining[v - 1] = v;
+            position[v] = v - 1;
+        }
+        int remainingCount = n;
+        boolean[] placed = new boolean[n + 1];
+        int[] sample = new int[RCL_SAMPLE];
+        long cut = 0;
+
+        while (remainingCount > 0) {
+            int sampleSize = Math.min(RCL_SAMPLE, remainingCount);
+            long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+            for (int s = 0; s < sampleSize; s++) {
+                int v = remaining[random.nextInt(remainingCount)];
+                sample[s] = v;
+                long value = Math.max(sigmaX[v], sigmaY[v]);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            double threshold = min + alpha * (max - min);
+            int rclSize = 0;
+            for (int s = 0; s < sampleSize; s++) {
+                int v = sample[s];
+                if (Math.max(sigmaX[v], sigmaY[v]) >= threshold) sample[rclSize++] = v;
+            }
+            int chosen = sample[random.nextInt(rclSize)]; // rclSize >= 1, the max is always in
+
+            boolean toX = sigmaX[chosen] >= sigmaY[chosen];
+            partition.set(chosen, toX);
+            placed[chosen] = true;
+            cut += toX ? sigmaX[chosen] : sigmaY[chosen];
+            for (int i = graph.start(chosen); i < graph.end(chosen); i++) {
+                int u = graph.target(i);
+                if (placed[u]) continue;
+                if (toX) sigmaY[u] += graph.weight(i);
+                else sigmaX[u] += graph.weight(i);
+            }
+
+            int last = remaining[--remainingCount];
+            remaining[position[chosen]] = last;
+            position[last] = position[chosen];
+        }
+        return new StreamingResult(partition, cut, 1);
+    }
+
+    /**
+     * First-improvement local search in sweeps: each pass walks the vertices in order and flips every
+     * vertex whose gain is positive, updating the neighbours' gains. Stops after a pass with no flip
+     * or after maxPasses.
+     */
+    public StreamingResult localSearch(MappedCsrGraph graph, Partition initial, int maxPasses) {
+        int n = graph.numVertices;
+        Partition partition = initial.copy();
+
+        // gain[v] = (weight to v's own side) - (weight to the other side)
+        long[] gain = new long[n + 1];
+        for (int v = 1; v <= n; v++) {
+            boolean side = partition.isInX(v);
+            long g = 0;
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                g += partition.isInX(graph.target(i)) == side ? graph.weight(i) : -graph.weight(i);
+            }
+            gain[v] = g;
+        }
+        long cut = (long) cutWeight(graph, partition);
+
+        int passes = 0;
+        boolean improved = true;
+        while (improved && passes < maxPasses) {
+            improved = false;
+            passes++;
+            for (int v = 1; v <= n; v++) {
+                if (gain[v] <= 0) continue;
+                cut += gain[v];
+                partition.flip(v);
+                gain[v] = -gain[v];
+                boolean side = partition.isInX(v);
+                for (int i = graph.start(v); i < graph.end(v); i++) {
+                    int u = graph.target(i);
+                    long twice = 2L * graph.weight(i);
+                    gain[u] += partition.isInX(u) == side ? twice : -twice;
+                }
+                improved = true;
+            }
+        }
+        return new StreamingResult(partition, cut, passes);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: StreamingMaxCut graph.rud|graph.csr [alpha] [localSearchPasses]");
+            return;
+        }
+        double alpha = args.length > 1 ? Double.parseDouble(args[1]) : 0.5;
+        int passes = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        File csrFile = new File(args[0]);
+        if (!args[0].endsWith(CsrSnapshot.EXTENSION)) {
+            csrFile = CsrSnapshot.snapshotFileFor(new File(args[0]));
+            if (!csrFile.exists() || csrFile.lastModified() < new File(args[0]).lastModified()) {
+                long start = System.nanoTime();
+                RudParser.convertToCsr(args[0], csrFile);
+                System.out.printf("Converted to %s in %.1f s%n", csrFile, (System.nanoTime() - start) / 1e9);
+            }
+        }
+
+        MappedCsrGraph graph = MappedCsrGraph.open(csrFile);
+        System.out.println(graph);
+        StreamingMaxCut solver = new StreamingMaxCut();
+
+        long start = System.nanoTime();
+        StreamingResult greedy = solver.greedy(graph);
+        System.out.printf("Greedy:      %.0f (%.1f s)%n", greedy.cutValue, (System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        StreamingResult semiGreedy = solver.semiGreedy(graph, alpha);
+        System.out.printf("Semi-greedy: %.0f (%.1f s)%n", semiGreedy.cutValue, (System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        StreamingResult local = solver.localSearch(graph, semiGreedy.partition, passes);
+        System.out.printf("Local search: %.0f after %d passes (%.1f s)%n", local.cutValue, local.passes, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,134 @@
+package maxcut;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tabu search improvement for a MAX-CUT partition.
+ *
+ * The search runs on a Solution, so every move is evaluated in O(1) from its gain
+ * and a flip only updates the gains of v's neighbours. A flipped vertex stays tabu for a randomised
+ * tenure, unless moving it would beat the best cut found so far (aspiration).
+ *
+ * Admissible and tabu vertices sit in two GainHeaps, so a move costs O(deg(v) log V) instead of a scan
+ * over all vertices: the best admissible move is the top of the first heap, or the top of the second
+ * if it passes the aspiration test. Tabu vertices return to the first heap when their tenure ends,
+ * found through a ring of expiry slots. Ties between equal gains are broken by random low key bits.
+ */
+public class TabuSearch {
+    private static final int TIE_BITS = 16;
+
+    private final Random random = new Random();
+
+    public static class TabuResult {
+        public Partition partition;
+        public double cutValue;
+        public int iterations;
+
+        public TabuResult(Partition partition, double cutValue, int iterations) {
+            this.partition = partition;
+            this.cutValue = cutValue;
+            this.iterations = iterations;
+        }
+    }
+
+    public TabuResult improve(Graph graph, Partition initialPartition, int maxIterations) {
+        return improve(new Solution(graph, initialPartition), maxIterations);
+    }
+
+    // Runs on the given solution in place and returns a copy of the best partition visited
+    public TabuResult improve(Solution solution, int maxIterations) {
+        Graph graph = solution.getGraph();
+        int n = graph.numVertices;
+        Partition partition = solution.getPartition();
+        long cut = (long) solution.getCutValue();
+
+        long bestCut = cut;
+        Partition bestPartition = partition.copy();
+        boolean bestSaved = true;
+
+        int[] tabuUntil = new int[n + 1];
+        int minTenure = Math.max(5, n / 20);
+        int tenureRange = Math.max(1, n / 20);
+
+        // Vertices whose tenure ends before iteration i are in slot i % slots
+        int slots = minTenure + tenureRange + 1;
+        int[][] expiring = new int[slots][4];
+        int[] expiringCount = new int[slots];
+
+        int[] tieBits = new int[n + 1];
+        GainHeap admissible = new GainHeap(n);
+        GainHeap tabu = new GainHeap(n);
+        for (int v = 1; v <= n; v++) {
+            tieBits[v] = random.nextInt(1 << TIE_BITS);
+            admissible.insert(v, key(solution.gain(v), tieBits[v]));
+        }
+
+        int iteration = 0;
+        while (iteration < maxIterations) {
+            iteration++;
+
+            int slot = iteration % slots;
+            for (int i = 0; i < expiringCount[slot]; i++) {
+                int v = expiring[slot][i];
+                // Flipped again by aspiration since: a later tenure, or the same one with a second entry here
+                if (tabuUntil[v] != iteration - 1 || !tabu.contains(v)) continue;
+                tabu.remove(v);
+                admissible.insert(v, key(solution.gain(v), tieBits[v]));
+            }
+            expiringCount[slot] = 0;
+            assert admissible.isValid() && tabu.isValid() : "tabu search heaps out of order at iteration " + iteration;
+
+            // Best admissible move; a tabu vertex only if it beats the best cut
+            int bestVertex = admissible.isEmpty() ? -1 : admissible.peek();
+            if (!tabu.isEmpty()) {
+                int top = tabu.peek();
+                if (cut + solution.gain(top) > bestCut && (bestVertex == -1 || tabu.key(top) > admissible.key(bestVertex))) {
+                    bestVertex = top;
+                }
+            }
+            if (bestVertex == -1) break; // everything is tabu
+            long bestGain = solution.gain(bestVertex);
+
+            // Leaving the best solution seen so far: keep a copy of it first
+            if (bestGain <= 0 && !bestSaved) {
+                bestPartition.copyFrom(partition);
+                bestSaved = true;
+            }
+
+            cut += bestGain;
+            solution.flip(bestVertex);
+            for (int i = graph.adjStart[bestVertex]; i < graph.adjStart[bestVertex + 1]; i++) {
+                int u = graph.adjTarget[i];
+                long k = key(solution.gain(u), tieBits[u]);
+                admissible.update(u, k); // u is in exactly one of the heaps, the other ignores it
+                tabu.update(u, k);
+            }
+
+            admissible.remove(bestVertex);
+            tabu.remove(bestVertex);
+            tieBits[bestVertex] = random.nextInt(1 << TIE_BITS);
+            tabu.insert(bestVertex, key(solution.gain(bestVertex), tieBits[bestVertex]));
+            tabuUntil[bestVertex] = iteration + minTenure + random.nextInt(tenureRange);
+            int expirySlot = (tabuUntil[bestVertex] + 1) % slots;
+            if (expiringCount[expirySlot] == expiring[expirySlot].length) {
+                expiring[expirySlot] = Arrays.copyOf(expiring[expirySlot], 2 * expiring[expirySlot].length);
+            }
+            expiring[expirySlot][expiringCount[expirySlot]++] = bestVertex;
+
+            if (cut > bestCut) {
+                bestCut = cut;
+                bestSaved = false;
+            }
+        }
+        if (!bestSaved) {
+            bestPartition.copyFrom(partition);
+        }
+        return new TabuResult(bestPartition, bestCut, iteration);
+    }
+
+    // Heap key: the gain, with random low bits to break ties
+    private static long key(long gain, int tieBits) {
+        return gain << TIE_BITS | tieBits;
+    }
+}
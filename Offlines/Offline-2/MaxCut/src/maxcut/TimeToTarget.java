@@ -0,0 +1,52 @@
+package maxcut;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Collects data for a time-to-target (TTT) plot: runs GRASP independently several times on one graph,
+ * each run stopping as soon as its best cut reaches the target, and writes the sorted times.
+ * Plot the output with ttt_plot.py.
+ *
+ * Usage: TimeToTarget graph.rud target [runs] [alpha] [maxIterations]
+ */
+public class TimeToTarget {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TimeToTarget graph.rud target [runs] [alpha] [maxIterations]");
+            return;
+        }
+        String filePath = args[0];
+        double target = Double.parseDouble(args[1]);
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        double alpha = args.length > 3 ? Double.parseDouble(args[3]) : 0.5;
+        int maxIterations = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+        int localSearchDepth = 100;
+
+        Graph graph = RudParser.load(filePath);
+        double[] seconds = new double[runs];
+        int reached = 0;
+        for (int run = 0; run < runs; run++) {
+            GraspTrace trace = new Grasp().runGrasp(graph, alpha, maxIterations, localSearchDepth, target);
+            long nanos = trace.timeToTargetNanos(target);
+            if (nanos < 0) {
+                System.err.println("Run " + run + " did not reach " + target + " in " + maxIterations + " iterations");
+                continue;
+            }
+            seconds[reached++] = nanos / 1e9;
+        }
+        seconds = Arrays.copyOf(seconds, reached);
+        Arrays.sort(seconds);
+
+        // Empirical probability p_i = (i - 1/2) / n for the i-th fastest run
+        String name = new File(filePath).getName().replace(".rud", "");
+        String outFile = "ttt_" + name + "_" + (long) target + ".csv";
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(outFile)))) {
+            writer.println("time_s,probability");
+            for (int i = 0; i < reached; i++) {
+                writer.println(seconds[i] + "," + (i + 0.5) / reached);
+            }
+        }
+        System.out.println(reached + "/" + runs + " runs reached " + target + ", written to " + outFile);
+    }
+}
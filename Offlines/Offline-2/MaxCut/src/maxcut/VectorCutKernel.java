@@ -0,0 +1,85 @@
+package maxcut;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * CutKernel on the JDK Vector API. A first pass gathers the packed sides of SPECIES.length() edges'
+ * endpoints at a time and stores their XOR; a second pass sweeps that array once per candidate,
+ * adding the weights of the edges whose bit is set.
+ *
+ * Needs --add-modules jdk.incubator.vector to compile and run; CutKernel.forGraph() only
+ * loads this class when the module is present.
+ */
+public class VectorCutKernel extends CutKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int MAX_FLUSH_STEPS = 1 << 12;
+
+    // Lane sums are flushed into the long results every flushSteps vectors, before flushSteps * max |weight|
+    // can overflow an int: every 2^12 vectors while |weights| < 2^19, down to every vector for the largest ones
+    private final int flushSteps;
+    // Reused by every call, so one kernel serves one thread
+    private final int[] cut;      // pass 1 output
+    private final int[] laneSums; // lanes are added as longs: reduceLanesToLong adds them in int first
+
+    public VectorCutKernel(Graph graph) {
+        super(graph);
+        long maxWeight = 1;
+        for (int w : edgeWeight) maxWeight = Math.max(maxWeight, Math.abs((long) w));
+        flushSteps = (int) Math.max(1, Math.min(MAX_FLUSH_STEPS, Integer.MAX_VALUE / maxWeight));
+        cut = new int[edgeFrom.length];
+        laneSums = new int[SPECIES.length()];
+    }
+
+    @Override
+    public void cutWeights(int[] packedSides, int count, long[] out) {
+        Arrays.fill(out, 0, count, 0L);
+        int lanes = SPECIES.length();
+        int numEdges = edgeFrom.length;
+        int upper = SPECIES.loopBound(numEdges);
+
+        // Pass 1: gather both endpoints' packed sides, cut[e] bit k = edge e is cut in candidate k
+        for (int e = 0; e < upper; e += lanes) {
+            IntVector u = IntVector.fromArray(SPECIES, packedSides, 0, edgeFrom, e);
+            IntVector v = IntVector.fromArray(SPECIES, packedSides, 0, edgeTo, e);
+            u.lanewise(VectorOperators.XOR, v).intoArray(cut, e);
+        }
+        for (int e = upper; e < numEdges; e++) {
+            cut[e] = packedSides[edgeFrom[e]] ^ packedSides[edgeTo[e]];
+        }
+
+        // Pass 2: one contiguous sweep per candidate with the accumulator kept in a register
+        for (int k = 0; k < count; k++) {
+            IntVector acc = IntVector.zero(SPECIES);
+            long sum = 0;
+            int steps = 0;
+            for (int e = 0; e < upper; e += lanes) {
+                // all ones where bit k is set, so the AND keeps exactly the cut edges' weights
+                IntVector mask = IntVector.fromArray(SPECIES, cut, e)
+                        .lanewise(VectorOperators.LSHL, 31 - k)
+                        .lanewise(VectorOperators.ASHR, 31);
+                acc = acc.add(mask.and(IntVector.fromArray(SPECIES, edgeWeight, e)));
+                if (++steps == flushSteps) {
+                    sum += flush(acc);
+                    acc = IntVector.zero(SPECIES);
+                    steps = 0;
+                }
+            }
+            sum += flush(acc);
+            for (int e = upper; e < numEdges; e++) {
+                sum += ((cut[e] >>> k) & 1) * edgeWeight[e];
+            }
+            out[k] = sum;
+        }
+    }
+
+    private long flush(IntVector acc) {
+        acc.intoArray(laneSums, 0);
+        long sum = 0;
+        for (int lane : laneSums) sum += lane;
+        return sum;
+    }
+}
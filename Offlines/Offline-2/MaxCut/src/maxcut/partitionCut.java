@@ -1,3 +1,5 @@
+package maxcut;
+
 public class partitionCut {
 
     public double  sigmaX ;
@@ -0,0 +1,60 @@
+import sys
+import os
+import pandas as pd
+import matplotlib.pyplot as plt
+import numpy as np
+
+
+def ttt_plot(csv_files, output_dir="plots"):
+    """
+    Draw time-to-target plots from the files written by TimeToTarget.java.
+
+    Each file holds the sorted times (seconds) of independent GRASP runs to reach the same target,
+    with their empirical probabilities. The dashed line is the shifted exponential fitted to the
+    runs, as in the usual TTT plots.
+
+    Args:
+        csv_files: One or more ttt_*.csv files, drawn on the same axes
+        output_dir: Directory to save the plot (if None, display only)
+    """
+    plt.figure(figsize=(10, 7))
+
+    for csv_file in csv_files:
+        df = pd.read_csv(csv_file)
+        times = df['time_s'].to_numpy()
+        probabilities = df['probability'].to_numpy()
+        label = os.path.splitext(os.path.basename(csv_file))[0]
+
+        plt.plot(times, probabilities, 'o', markersize=4, label=label)
+
+        # Shifted exponential: shift = fastest run, mean = average excess over it
+        if len(times) > 1:
+            shift = times.min()
+            mean = max(times.mean() - shift, 1e-12)
+            t = np.linspace(0, times.max(), 200)
+            fitted = np.where(t >= shift, 1 - np.exp(-(t - shift) / mean), 0)
+            plt.plot(t, fitted, '--', linewidth=1)
+
+    plt.xlabel('Time to target (s)')
+    plt.ylabel('Cumulative probability')
+    plt.title('GRASP time-to-target plot')
+    plt.ylim(0, 1.05)
+    plt.grid(True, linestyle='--', alpha=0.5)
+    plt.legend()
+    plt.tight_layout()
+
+    if output_dir:
+        if not os.path.exists(output_dir):
+            os.makedirs(output_dir)
+        output_file = os.path.join(output_dir, 'ttt_plot.png')
+        plt.savefig(output_file, dpi=300)
+        print(f"Plot saved to {output_file}")
+    else:
+        plt.show()
+
+
+if __name__ == "__main__":
+    if len(sys.argv) < 2:
+        print("Usage: python ttt_plot.py ttt_g1_11600.csv [more files]")
+        sys.exit(1)
+    ttt_plot(sys.argv[1:])
@@ -19,120 +19,111 @@
 
 
 
-import java.util.*;
+import search.SearchEngine;
+import search.StateSpace;
 
-class Cell implements Comparable<Cell> {
-    int row, col;
-    int gCost = Integer.MAX_VALUE, hCost = 0;
-    Cell parent = null;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
 
-    Cell(int row, int col) {
-        this.row = row;
-        this.col = col;
+public class AStarSolver {
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal) {
+        return findPath(grid, start, goal, Movement.FOUR);
     }
 
-    int fCost() {
-        return gCost + hCost;
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Movement movement) {
+        return findPath(grid, start, goal, movement, new SearchContext(grid.length, grid[0].length));
     }
 
-    @Override
-    public int compareTo(Cell other) {
-        return Integer.compare(this.fCost(), other.fCost());
+    // Same search on a reusable context: no per-cell objects and no O(rows * cols) setup per query
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Movement movement, SearchContext context) {
+        int cols = grid[0].length;
+        return findPath(grid, start, goal, movement, context,
+                cell -> movement.heuristic(cell / cols - goal[0], cell % cols - goal[1]));
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof Cell)) return false;
-        Cell c = (Cell) o;
-        return row == c.row && col == c.col;
+    // A* with the landmark (ALT) heuristic, see Landmarks
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Landmarks landmarks, SearchContext context) {
+        return findPath(grid, start, goal, landmarks.movement, context, landmarks.heuristicTo(goal[0], goal[1]));
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(row, col);
+    // The same search on a packed grid, e.g. a map loaded by MovingAiMap
+    public static List<Cell> findPath(BitGrid grid, int[] start, int[] goal, Movement movement) {
+        return findPath(grid, start, goal, movement, new SearchContext(grid.rows(), grid.cols()));
     }
-}
-
-public class AStarSolver {
-    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-
-    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal) {
-        int rows = grid.length, cols = grid[0].length;
-
-        // Create a reusable cell matrix
-        Cell[][] cells = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c] = new Cell(r, c);
-            }
-        }
-
-        Cell startCell = cells[start[0]][start[1]];
-        Cell goalCell = cells[goal[0]][goal[1]];
-
-        PriorityQueue<Cell> openSet = new PriorityQueue<>();
-        boolean[][] closedSet = new boolean[rows][cols];
-
-        startCell.gCost = 0;
-        startCell.hCost = heuristic(startCell, goalCell);
-        openSet.add(startCell);
-
-        while (!openSet.isEmpty()) {
-            Cell current = openSet.poll();
-
-            if (current.equals(goalCell)) {
-                return reconstructPath(current);
-            }
 
-            closedSet[current.row][current.col] = true;
+    public static List<Cell> findPath(BitGrid grid, int[] start, int[] goal, Movement movement, SearchContext context) {
+        int cols = grid.cols();
+        context.reset(grid);
+        int end = search(cols, start[0] * cols + start[1], goal[0] * cols + goal[1], movement,
+                (row, col, dRow, dCol) -> movement.canMove(grid, row, col, dRow, dCol),
+                cell -> movement.heuristic(cell / cols - goal[0], cell % cols - goal[1]), context);
+        return end < 0 ? Collections.emptyList() : context.reconstructPath(end);
+    }
 
-            for (int[] dir : DIRECTIONS) {
-                int newRow = current.row + dir[0];
-                int newCol = current.col + dir[1];
+    // heuristic maps a flat cell index to a lower bound on its distance to goal, or Landmarks.UNREACHABLE
+    private static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Movement movement,
+                                       SearchContext context, IntUnaryOperator heuristic) {
+        int cols = grid[0].length;
+        context.reset(grid);
+        int end = search(cols, start[0] * cols + start[1], goal[0] * cols + goal[1], movement,
+                (row, col, dRow, dCol) -> movement.canMove(grid, row, col, dRow, dCol), heuristic, context);
+        return end < 0 ? Collections.emptyList() : context.reconstructPath(end);
+    }
 
-                if (!isValid(grid, newRow, newCol)) continue;
+    // Whether a unit may step from (row, col) by (dRow, dCol), whatever the grid is stored in
+    interface MoveRule {
+        boolean canMove(int row, int col, int dRow, int dCol);
+    }
 
-                Cell neighbor = cells[newRow][newCol];
-                if (closedSet[newRow][newCol]) continue;
+    /**
+     * A* between flat indices row * cols + col, run by the context's SearchEngine. Returns goal once it is
+     * expanded, or -1 if it cannot be reached; the path is left in the context's parent links.
+     */
+    static int search(int cols, int start, int goal, Movement movement, MoveRule rule,
+                      IntUnaryOperator heuristic, SearchContext context) {
+        return context.engine.search(new GridSpace(cols, goal, movement, rule), start, heuristic);
+    }
 
-                int tentativeG = current.gCost + 1;
-                if (tentativeG < neighbor.gCost) {
-                    neighbor.gCost = tentativeG;
-                    neighbor.hCost = heuristic(neighbor, goalCell);
-                    neighbor.parent = current;
+    // The grid as a StateSpace over flat indices row * cols + col
+    private static final class GridSpace implements StateSpace {
+        private final int cols, goal;
+        private final Movement movement;
+        private final MoveRule rule;
+
+        GridSpace(int cols, int goal, Movement movement, MoveRule rule) {
+            this.cols = cols;
+            this.goal = goal;
+            this.movement = movement;
+            this.rule = rule;
+        }
 
-                    if (openSet.contains(neighbor)) {
-                        openSet.remove(neighbor); // remove the old version
-                    }
-                    openSet.add(neighbor); // re-insert with updated cost
+        @Override
+        public boolean isGoal(int state) {
+            return state == goal;
+        }
 
+        @Override
+        public void forEachSuccessor(int state, SuccessorSink sink) {
+            int row = state / cols, col = state % cols;
+            for (int[] dir : movement.directions) {
+                if (rule.canMove(row, col, dir[0], dir[1])) {
+                    sink.accept(state + dir[0] * cols + dir[1], movement.stepCost(dir[0], dir[1]));
                 }
             }
         }
-
-        return Collections.emptyList(); // No path found
     }
 
-    private static int heuristic(Cell a, Cell b) {
-        return Math.abs(a.row - b.row) + Math.abs(a.col - b.col);
+    // Lowest f first, ties go to the cell closer to the goal (lower h)
+    static long priority(int g, int h) {
+        return SearchEngine.priority(g, h);
     }
 
-    private static boolean isValid(int[][] grid, int row, int col) {
+    static boolean isValid(int[][] grid, int row, int col) {
         return row >= 0 && row < grid.length &&
                 col >= 0 && col < grid[0].length &&
                 grid[row][col] == 0;
     }
 
-    private static List<Cell> reconstructPath(Cell end) {
-        List<Cell> path = new ArrayList<>();
-        for (Cell current = end; current != null; current = current.parent) {
-            path.add(current);
-        }
-        Collections.reverse(path);
-        return path;
-    }
-
     public static void main(String[] args) {
         int[][] grid = {
                 {0, 0, 0, 0},
@@ -154,6 +145,32 @@ public class AStarSolver {
                 System.out.println("(" + cell.row + ", " + cell.col + ")");
             }
         }
+
+        List<Cell> diagonalPath = JumpPointSearch.findPath(grid, start, goal, Movement.EIGHT);
+        System.out.println("Jump point search, 8-connected:");
+        for (Cell cell : diagonalPath) {
+            System.out.println("(" + cell.row + ", " + cell.col + ")");
+        }
+
+        HierarchicalPathfinder hierarchical = new HierarchicalPathfinder(grid, 2, Movement.FOUR);
+        System.out.println("HPA*, 2x2 clusters:");
+        for (Cell cell : hierarchical.findPath(start, goal)) {
+            System.out.println("(" + cell.row + ", " + cell.col + ")");
+        }
+
+        SearchContext context = new SearchContext(grid.length, grid[0].length);
+        findPath(grid, start, goal, Movement.FOUR, context);
+        int manhattanExpanded = context.getExpanded();
+        findPath(grid, start, goal, Landmarks.farthest(grid, Movement.FOUR, 2), context);
+        System.out.println("Expanded cells, Manhattan: " + manhattanExpanded + ", landmarks: " + context.getExpanded());
+
+        DStarLite planner = new DStarLite(grid, start, goal);
+        planner.getPath();
+        planner.setCell(2, 1, 1);
+        System.out.println("D* Lite after blocking (2, 1):");
+        for (Cell cell : planner.getPath()) {
+            System.out.println("(" + cell.row + ", " + cell.col + ")");
+        }
     }
 }
 
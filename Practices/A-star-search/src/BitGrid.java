@@ -0,0 +1,67 @@
+import java.nio.LongBuffer;
+
+/**
+ * Immutable grid packed one bit per cell (set = blocked), row-major with flat index row * cols + col.
+ *
+ * A 4000 x 4000 map is 2 MB instead of the 64 MB of an int[][], and since nothing can change it
+ * after construction any number of threads can search it at the same time without locking.
+ * The words live in a LongBuffer, so they can be on the heap (of), off-heap, or a memory-mapped
+ * file (MovingAiMap); reads are absolute gets, which never touch the buffer's position.
+ */
+public final class BitGrid {
+    private final int rows, cols;
+    private final LongBuffer blocked;
+
+    BitGrid(int rows, int cols, LongBuffer blocked) {
+        if ((long) rows * cols > Integer.MAX_VALUE) throw new IllegalArgumentException("grid too large: " + rows + "x" + cols);
+        if (blocked.limit() < words(rows, cols)) throw new IllegalArgumentException("bitset too short for " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.blocked = blocked.asReadOnlyBuffer();
+    }
+
+    // Copies grid (0 = free, anything else = blocked)
+    public static BitGrid of(int[][] grid) {
+        int rows = grid.length, cols = grid[0].length;
+        long[] blocked = new long[words(rows, cols)];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (grid[r][c] != 0) {
+                    int cell = r * cols + c;
+                    blocked[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+        return new BitGrid(rows, cols, LongBuffer.wrap(blocked));
+    }
+
+    static int words(int rows, int cols) {
+        return (int) (((long) rows * cols + 63) >>> 6);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    // Inside the grid and not blocked, like AStarSolver.isValid
+    public boolean isFree(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return false;
+        int cell = row * cols + col;
+        return (blocked.get(cell >>> 6) & 1L << cell) == 0;
+    }
+
+    public int countBlocked() {
+        int count = 0;
+        for (int i = 0, n = words(rows, cols); i < n; i++) count += Long.bitCount(blocked.get(i));
+        return count;
+    }
+
+    // Read-only view of the words, for writing them out
+    LongBuffer words() {
+        return blocked.duplicate();
+    }
+}
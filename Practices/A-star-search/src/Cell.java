@@ -0,0 +1,32 @@
+class Cell implements Comparable<Cell> {
+    int row, col;
+    int gCost = Integer.MAX_VALUE, hCost = 0;
+    Cell parent = null;
+
+    Cell(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    int fCost() {
+        return gCost + hCost;
+    }
+
+    @Override
+    public int compareTo(Cell other) {
+        return Integer.compare(this.fCost(), other.fCost());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cell)) return false;
+        Cell c = (Cell) o;
+        return row == c.row && col == c.col;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * row + col;
+    }
+}
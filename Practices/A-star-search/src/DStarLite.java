@@ -0,0 +1,166 @@
+import search.IndexedMinHeap;
+
+import java.util.*;
+
+/**
+ * D* Lite (Koenig and Likhachev): a planner that keeps its search between grid changes and start moves.
+ *
+ * The search runs backwards from the goal. g is the cost-to-goal of the last expansion, rhs the one-step
+ * lookahead min over successors of (step cost + g), and a cell is consistent when both agree. A grid change
+ * only recomputes rhs around the changed cell, and the next getPath expands just the inconsistent cells whose
+ * keys beat the start's, so replanning work grows with the part of the map the change affects, not with the map.
+ * When the agent moves, km collects the heuristic drop so keys already in the open set stay valid lower bounds.
+ *
+ * Keys [min(g, rhs) + h(start, s) + km, min(g, rhs)] are packed into one long like AStarSolver.priority.
+ */
+public class DStarLite {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int[][] grid;
+    private final int rows, cols;
+    private final Movement movement;
+    private final int goal;
+    private int start, lastStart;
+    private int km;
+    private final int[] g;
+    private final int[] rhs;
+    private final IndexedMinHeap openSet;
+    private int expanded;
+
+    public DStarLite(int[][] grid, int[] start, int[] goal) {
+        this(grid, start, goal, Movement.FOUR);
+    }
+
+    public DStarLite(int[][] grid, int[] start, int[] goal, Movement movement) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.movement = movement;
+        this.start = this.lastStart = start[0] * cols + start[1];
+        this.goal = goal[0] * cols + goal[1];
+        this.g = new int[rows * cols];
+        this.rhs = new int[rows * cols];
+        this.openSet = new IndexedMinHeap(rows * cols);
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        rhs[this.goal] = 0;
+        openSet.push(this.goal, key(this.goal));
+    }
+
+    // Changes one cell; the path is repaired on the next getPath
+    public void setCell(int row, int col, int value) {
+        if (grid[row][col] == value) return;
+        grid[row][col] = value;
+        int cell = row * cols + col;
+        // The cell's own edges, and with EIGHT also the diagonals that pass its corner, all touch these cells
+        updateVertex(cell);
+        for (int[] dir : movement.directions) {
+            int r = row + dir[0], c = col + dir[1];
+            if (r >= 0 && r < rows && c >= 0 && c < cols) updateVertex(r * cols + c);
+        }
+    }
+
+    // Moves the agent, usually one step along the last path
+    public void moveStart(int row, int col) {
+        start = row * cols + col;
+        km += heuristic(lastStart, start);
+        lastStart = start;
+    }
+
+    // Number of cells expanded by the last getPath
+    public int getExpanded() {
+        return expanded;
+    }
+
+    // Shortest path from the current start to the goal on the current grid
+    public List<Cell> getPath() {
+        computeShortestPath();
+        if (g[start] == INFINITY) return Collections.emptyList(); // No path found
+
+        List<Cell> path = new ArrayList<>();
+        Cell cell = new Cell(start / cols, start % cols);
+        cell.gCost = 0;
+        path.add(cell);
+        for (int current = start; current != goal; ) {
+            int next = -1, best = INFINITY;
+            for (int[] dir : movement.directions) {
+                int cost = edgeCost(current, dir);
+                if (cost == INFINITY) continue;
+                int neighbor = current + dir[0] * cols + dir[1];
+                if (g[neighbor] != INFINITY && cost + g[neighbor] < best) {
+                    best = cost + g[neighbor];
+                    next = neighbor;
+                }
+            }
+            if (next < 0 || path.size() > rows * cols) return Collections.emptyList();
+            Cell step = new Cell(next / cols, next % cols);
+            step.gCost = cell.gCost + movement.stepCost(step.row - cell.row, step.col - cell.col);
+            step.parent = cell;
+            path.add(step);
+            cell = step;
+            current = next;
+        }
+        return path;
+    }
+
+    private void computeShortestPath() {
+        expanded = 0;
+        while (!openSet.isEmpty() && (openSet.priority(openSet.peek()) < key(start) || rhs[start] != g[start])) {
+            int u = openSet.peek();
+            long fresh = key(u);
+            if (openSet.priority(u) < fresh) { // key went stale after the start moved
+                openSet.push(u, fresh);
+                continue;
+            }
+            openSet.poll();
+            expanded++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                updateNeighbors(u);
+            } else {
+                g[u] = INFINITY;
+                updateVertex(u);
+                updateNeighbors(u);
+            }
+        }
+    }
+
+    // Predecessors of u, including the ones whose edge to u was just blocked
+    private void updateNeighbors(int u) {
+        int row = u / cols, col = u % cols;
+        for (int[] dir : movement.directions) {
+            int r = row + dir[0], c = col + dir[1];
+            if (r >= 0 && r < rows && c >= 0 && c < cols) updateVertex(r * cols + c);
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u != goal) {
+            int best = INFINITY;
+            for (int[] dir : movement.directions) {
+                int cost = edgeCost(u, dir);
+                if (cost == INFINITY) continue;
+                int neighbor = u + dir[0] * cols + dir[1];
+                if (g[neighbor] != INFINITY) best = Math.min(best, cost + g[neighbor]);
+            }
+            rhs[u] = best;
+        }
+        if (g[u] != rhs[u]) openSet.push(u, key(u));
+        else openSet.remove(u);
+    }
+
+    private int edgeCost(int cell, int[] dir) {
+        return movement.canMove(grid, cell / cols, cell % cols, dir[0], dir[1])
+                ? movement.stepCost(dir[0], dir[1]) : INFINITY;
+    }
+
+    private long key(int cell) {
+        int best = Math.min(g[cell], rhs[cell]);
+        long first = best == INFINITY ? INFINITY : Math.min(INFINITY, (long) best + heuristic(start, cell) + km);
+        return first << 32 | best;
+    }
+
+    private int heuristic(int a, int b) {
+        return movement.heuristic(a / cols - b / cols, a % cols - b % cols);
+    }
+}
@@ -0,0 +1,417 @@
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Hierarchical path-finding A* (HPA*, Botea, Müller and Schaeffer) on one grid.
+ *
+ * The grid is cut into clusterSize x clusterSize clusters. Along every border between two clusters each
+ * maximal run of cells that are free on both sides is an entrance, with one transition in its middle, or one
+ * at each end if it is MAX_ENTRANCE_WIDTH or wider. The cells of the transitions are the nodes of an abstract
+ * graph, with an edge across every transition and an edge between any two nodes of a cluster, weighted with
+ * the shortest path inside the cluster. All of this is computed once, in the constructor.
+ *
+ * A query connects start and goal to the nodes of their clusters, runs A* on the abstract graph, and then
+ * refines every abstract edge with a search inside a single cluster. Paths are near optimal (typically within
+ * a few percent), not optimal: they can only leave a cluster through a transition, and only straight.
+ *
+ * Grid changes go through setCell, or invalidate after writing the grid directly. They only mark the cluster
+ * dirty; the next query rebuilds the borders of the dirty clusters and the clusters that share them.
+ */
+public class HierarchicalPathfinder {
+    private static final int MAX_ENTRANCE_WIDTH = 6;
+    private static final int[] NO_TRANSITIONS = new int[0];
+
+    private final int[][] grid;
+    private final int rows, cols;
+    private final int clusterSize;
+    private final int clusterRows, clusterCols;
+    private final Movement movement;
+    private final Cluster[] clusters;
+    // Transitions as (cell, cell) pairs between cluster k and the cluster below / to the right of it
+    private final int[][] downBorder;
+    private final int[][] rightBorder;
+
+    // Abstract node ids are cluster * maxNodes + slot, plus one id each for the start and goal of a query
+    private final int maxNodes;
+    private final int startId, goalId;
+    private final SearchContext abstractContext;
+    private final SearchContext localContext;
+    private final int[] startDist, goalDist;
+    private int startCell, goalCell;
+
+    private final boolean[] dirty;
+    private final int[] dirtyList;
+    private int dirtyCount;
+
+    private static final class Cluster {
+        final int top, left, height, width;
+        int[] cells = NO_TRANSITIONS;   // flat indices of the abstract nodes, the index is the node's slot
+        int[] dist = NO_TRANSITIONS;    // dist[i * cells.length + j], Integer.MAX_VALUE if not connected inside
+        int[][] links = new int[0][];   // per slot, ids of the nodes across the borders
+
+        Cluster(int top, int left, int height, int width) {
+            this.top = top;
+            this.left = left;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+    public HierarchicalPathfinder(int[][] grid) {
+        this(grid, 16, Movement.FOUR);
+    }
+
+    public HierarchicalPathfinder(int[][] grid, int clusterSize, Movement movement) {
+        if (clusterSize < 2) throw new IllegalArgumentException("cluster size must be at least 2");
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.clusterSize = clusterSize;
+        this.movement = movement;
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+
+        clusters = new Cluster[clusterRows * clusterCols];
+        for (int k = 0; k < clusters.length; k++) {
+            int top = k / clusterCols * clusterSize, left = k % clusterCols * clusterSize;
+            clusters[k] = new Cluster(top, left, Math.min(clusterSize, rows - top), Math.min(clusterSize, cols - left));
+        }
+        downBorder = new int[clusters.length][];
+        rightBorder = new int[clusters.length][];
+        dirty = new boolean[clusters.length];
+        dirtyList = new int[clusters.length];
+
+        // A border of length clusterSize has at most one transition per two cells
+        maxNodes = 4 * ((clusterSize + 1) / 2);
+        startId = clusters.length * maxNodes;
+        goalId = startId + 1;
+        abstractContext = new SearchContext(clusters.length + 1, maxNodes);
+        localContext = new SearchContext(clusterSize, clusterSize);
+        startDist = new int[maxNodes];
+        goalDist = new int[maxNodes];
+
+        // Clusters only write their own entries, so every step runs over all clusters in parallel
+        IntStream.range(0, clusters.length).parallel().forEach(this::buildBorders);
+        ThreadLocal<SearchContext> contexts = ThreadLocal.withInitial(() -> new SearchContext(clusterSize, clusterSize));
+        IntStream.range(0, clusters.length).parallel().forEach(k -> {
+            buildNodes(k);
+            buildDistances(k, contexts.get());
+        });
+        IntStream.range(0, clusters.length).parallel().forEach(this::buildLinks);
+    }
+
+    // Sets a cell and schedules its cluster for a rebuild
+    public void setCell(int row, int col, int value) {
+        grid[row][col] = value;
+        invalidate(row, col);
+    }
+
+    // For changes written straight into the grid
+    public void invalidate(int row, int col) {
+        int k = clusterOf(row * cols + col);
+        if (!dirty[k]) {
+            dirty[k] = true;
+            dirtyList[dirtyCount++] = k;
+        }
+    }
+
+    public int abstractNodeCount() {
+        rebuildDirty();
+        int count = 0;
+        for (Cluster cluster : clusters) count += cluster.cells.length;
+        return count;
+    }
+
+    public List<Cell> findPath(int[] start, int[] goal) {
+        rebuildDirty();
+        if (!AStarSolver.isValid(grid, start[0], start[1]) || !AStarSolver.isValid(grid, goal[0], goal[1])) {
+            return Collections.emptyList();
+        }
+        startCell = start[0] * cols + start[1];
+        goalCell = goal[0] * cols + goal[1];
+        int startCluster = clusterOf(startCell), goalCluster = clusterOf(goalCell);
+
+        // Temporary edges from the start and to the goal, plus the direct one if both are in the same cluster
+        Cluster cluster = clusters[startCluster];
+        localSearch(localContext, cluster, startCell, -1);
+        for (int j = 0; j < cluster.cells.length; j++) startDist[j] = localContext.gCost(localIndex(cluster, cluster.cells[j]));
+        int direct = startCluster == goalCluster ? localContext.gCost(localIndex(cluster, goalCell)) : Integer.MAX_VALUE;
+        cluster = clusters[goalCluster];
+        localSearch(localContext, cluster, goalCell, -1);
+        for (int j = 0; j < cluster.cells.length; j++) goalDist[j] = localContext.gCost(localIndex(cluster, cluster.cells[j]));
+
+        SearchContext context = abstractContext;
+        context.reset();
+        context.update(startId, 0, -1);
+        context.openSet.push(startId, AStarSolver.priority(0, heuristic(startCell)));
+        int crossCost = movement.stepCost(1, 0);
+        while (!context.openSet.isEmpty()) {
+            int current = context.openSet.poll();
+            if (current == goalId) return refine(context);
+            context.close(current);
+            int g = context.gCost(current);
+
+            if (current == startId) {
+                for (int j = 0; j < clusters[startCluster].cells.length; j++) {
+                    relax(context, current, g, startCluster * maxNodes + j, startDist[j]);
+                }
+                relax(context, current, g, goalId, direct);
+                continue;
+            }
+            int k = current / maxNodes, slot = current % maxNodes;
+            cluster = clusters[k];
+            int n = cluster.cells.length;
+            for (int j = 0; j < n; j++) {
+                if (j != slot) relax(context, current, g, k * maxNodes + j, cluster.dist[slot * n + j]);
+            }
+            for (int link : cluster.links[slot]) relax(context, current, g, link, crossCost);
+            if (k == goalCluster) relax(context, current, g, goalId, goalDist[slot]);
+        }
+        return Collections.emptyList(); // No path found
+    }
+
+    private void relax(SearchContext context, int from, int g, int to, int cost) {
+        if (cost == Integer.MAX_VALUE || context.isClosed(to)) return;
+        int tentativeG = g + cost;
+        if (tentativeG < context.gCost(to)) {
+            context.update(to, tentativeG, from);
+            context.openSet.push(to, AStarSolver.priority(tentativeG, heuristic(cellOf(to))));
+        }
+    }
+
+    private int heuristic(int cell) {
+        return movement.heuristic(cell / cols - goalCell / cols, cell % cols - goalCell % cols);
+    }
+
+    private int cellOf(int id) {
+        if (id == startId) return startCell;
+        if (id == goalId) return goalCell;
+        return clusters[id / maxNodes].cells[id % maxNodes];
+    }
+
+    // Turns the abstract path into grid cells: transitions are single steps, everything else a search in one cluster
+    private List<Cell> refine(SearchContext context) {
+        List<Integer> waypoints = new ArrayList<>();
+        for (int id = goalId; id >= 0; id = context.parent(id)) waypoints.add(cellOf(id));
+        Collections.reverse(waypoints);
+
+        List<Cell> path = new ArrayList<>();
+        Cell first = new Cell(startCell / cols, startCell % cols);
+        first.gCost = 0;
+        path.add(first);
+        int[] segment = new int[clusterSize * clusterSize];
+        for (int w = 1; w < waypoints.size(); w++) {
+            int from = waypoints.get(w - 1), to = waypoints.get(w);
+            if (from == to) continue;
+            int g = path.get(path.size() - 1).gCost;
+            if (clusterOf(from) != clusterOf(to)) {
+                append(path, to, g + movement.stepCost(to / cols - from / cols, to % cols - from % cols));
+                continue;
+            }
+            Cluster cluster = clusters[clusterOf(from)];
+            localSearch(localContext, cluster, from, to);
+            int length = 0;
+            for (int at = localIndex(cluster, to); at != localIndex(cluster, from); at = localContext.parent(at)) {
+                segment[length++] = at;
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                int cell = (cluster.top + segment[i] / clusterSize) * cols + cluster.left + segment[i] % clusterSize;
+                append(path, cell, g + localContext.gCost(segment[i]));
+            }
+        }
+        for (int i = 1; i < path.size(); i++) {
+            path.get(i).parent = path.get(i - 1);
+        }
+        return path;
+    }
+
+    private void append(List<Cell> path, int cell, int g) {
+        Cell next = new Cell(cell / cols, cell % cols);
+        next.gCost = g;
+        path.add(next);
+    }
+
+    /**
+     * Search from source that never leaves the cluster, with local indices (row - top) * clusterSize + (col - left).
+     * Dijkstra over the whole cluster if target is -1, otherwise A* that stops at target.
+     */
+    private void localSearch(SearchContext local, Cluster cluster, int source, int target) {
+        local.reset();
+        int s = localIndex(cluster, source);
+        int t = target < 0 ? -1 : localIndex(cluster, target);
+        local.update(s, 0, -1);
+        local.openSet.push(s, 0);
+        while (!local.openSet.isEmpty()) {
+            int current = local.openSet.poll();
+            if (current == t) return;
+            local.close(current);
+            int row = cluster.top + current / clusterSize, col = cluster.left + current % clusterSize;
+            for (int[] dir : movement.directions) {
+                int newRow = row + dir[0], newCol = col + dir[1];
+                if (newRow < cluster.top || newRow >= cluster.top + cluster.height
+                        || newCol < cluster.left || newCol >= cluster.left + cluster.width) continue;
+                if (!movement.canMove(grid, row, col, dir[0], dir[1])) continue;
+
+                int neighbor = current + dir[0] * clusterSize + dir[1];
+                if (local.isClosed(neighbor)) continue;
+                int tentativeG = local.gCost(current) + movement.stepCost(dir[0], dir[1]);
+                if (tentativeG < local.gCost(neighbor)) {
+                    local.update(neighbor, tentativeG, current);
+                    int h = t < 0 ? 0 : movement.heuristic(newRow - target / cols, newCol - target % cols);
+                    local.openSet.push(neighbor, AStarSolver.priority(tentativeG, h));
+                }
+            }
+        }
+    }
+
+    private int clusterOf(int cell) {
+        return cell / cols / clusterSize * clusterCols + cell % cols / clusterSize;
+    }
+
+    private int localIndex(Cluster cluster, int cell) {
+        return (cell / cols - cluster.top) * clusterSize + cell % cols - cluster.left;
+    }
+
+    /**
+     * Brings the abstract graph up to date after grid changes. A dirty cluster gets its four borders
+     * recomputed, every cluster on one of those borders gets new nodes and intra-cluster distances,
+     * and the clusters next to those relink, since the slots they point to may have moved.
+     */
+    private void rebuildDirty() {
+        if (dirtyCount == 0) return;
+        Set<Integer> renumbered = new LinkedHashSet<>();
+        for (int d = 0; d < dirtyCount; d++) {
+            int k = dirtyList[d];
+            dirty[k] = false;
+            buildBorders(k);
+            int row = k / clusterCols, col = k % clusterCols;
+            if (row > 0) buildBorders(k - clusterCols);
+            if (col > 0) buildBorders(k - 1);
+            renumbered.add(k);
+            for (int neighbor : neighbors(k)) renumbered.add(neighbor);
+        }
+        dirtyCount = 0;
+
+        Set<Integer> relinked = new LinkedHashSet<>();
+        for (int k : renumbered) {
+            buildNodes(k);
+            buildDistances(k, localContext);
+            relinked.add(k);
+            for (int neighbor : neighbors(k)) relinked.add(neighbor);
+        }
+        for (int k : relinked) buildLinks(k);
+    }
+
+    private int[] neighbors(int k) {
+        int row = k / clusterCols, col = k % clusterCols;
+        int[] out = new int[4];
+        int count = 0;
+        if (row > 0) out[count++] = k - clusterCols;
+        if (row + 1 < clusterRows) out[count++] = k + clusterCols;
+        if (col > 0) out[count++] = k - 1;
+        if (col + 1 < clusterCols) out[count++] = k + 1;
+        return Arrays.copyOf(out, count);
+    }
+
+    // The borders cluster k owns: the one below it and the one to its right
+    private void buildBorders(int k) {
+        Cluster cluster = clusters[k];
+        downBorder[k] = k / clusterCols + 1 < clusterRows
+                ? transitions(cluster.top + cluster.height - 1, cluster.left, 1, 0, cluster.width) : NO_TRANSITIONS;
+        rightBorder[k] = k % clusterCols + 1 < clusterCols
+                ? transitions(cluster.top, cluster.left + cluster.width - 1, 0, 1, cluster.height) : NO_TRANSITIONS;
+    }
+
+    // Walks length cells from (row, col) along the border, whose other side is (dRow, dCol) away
+    private int[] transitions(int row, int col, int dRow, int dCol, int length) {
+        int[] out = new int[2 * length];
+        int count = 0;
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            int r = row + i * dCol, c = col + i * dRow;
+            boolean open = i < length && grid[r][c] == 0 && grid[r + dRow][c + dCol] == 0;
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                if (i - runStart < MAX_ENTRANCE_WIDTH) {
+                    count = addTransition(out, count, row, col, dRow, dCol, (runStart + i - 1) / 2);
+                } else {
+                    count = addTransition(out, count, row, col, dRow, dCol, runStart);
+                    count = addTransition(out, count, row, col, dRow, dCol, i - 1);
+                }
+                runStart = -1;
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    private int addTransition(int[] out, int count, int row, int col, int dRow, int dCol, int i) {
+        int cell = (row + i * dCol) * cols + col + i * dRow;
+        out[count] = cell;
+        out[count + 1] = cell + dRow * cols + dCol;
+        return count + 2;
+    }
+
+    private void buildNodes(int k) {
+        int[] buffer = new int[maxNodes];
+        int count = 0;
+        count = collect(downBorder[k], 0, buffer, count);
+        count = collect(rightBorder[k], 0, buffer, count);
+        if (k / clusterCols > 0) count = collect(downBorder[k - clusterCols], 1, buffer, count);
+        if (k % clusterCols > 0) count = collect(rightBorder[k - 1], 1, buffer, count);
+        clusters[k].cells = Arrays.copyOf(buffer, count);
+    }
+
+    // Adds the side-th cell of every transition, a corner cell can be on two borders
+    private static int collect(int[] transitions, int side, int[] buffer, int count) {
+        next:
+        for (int p = side; p < transitions.length; p += 2) {
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] == transitions[p]) continue next;
+            }
+            buffer[count++] = transitions[p];
+        }
+        return count;
+    }
+
+    private void buildDistances(int k, SearchContext local) {
+        Cluster cluster = clusters[k];
+        int n = cluster.cells.length;
+        cluster.dist = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            localSearch(local, cluster, cluster.cells[i], -1);
+            for (int j = 0; j < n; j++) {
+                cluster.dist[i * n + j] = local.gCost(localIndex(cluster, cluster.cells[j]));
+            }
+        }
+    }
+
+    private void buildLinks(int k) {
+        Cluster cluster = clusters[k];
+        int n = cluster.cells.length;
+        cluster.links = new int[n][];
+        int[] buffer = new int[4];
+        for (int i = 0; i < n; i++) {
+            int cell = cluster.cells[i];
+            int count = 0;
+            count = link(downBorder[k], 0, cell, buffer, count);
+            count = link(rightBorder[k], 0, cell, buffer, count);
+            if (k / clusterCols > 0) count = link(downBorder[k - clusterCols], 1, cell, buffer, count);
+            if (k % clusterCols > 0) count = link(rightBorder[k - 1], 1, cell, buffer, count);
+            cluster.links[i] = Arrays.copyOf(buffer, count);
+        }
+    }
+
+    private int link(int[] transitions, int side, int cell, int[] buffer, int count) {
+        for (int p = 0; p < transitions.length; p += 2) {
+            if (transitions[p + side] != cell) continue;
+            int other = transitions[p + 1 - side];
+            int k = clusterOf(other);
+            int[] cells = clusters[k].cells;
+            for (int slot = 0; slot < cells.length; slot++) {
+                if (cells[slot] == other) buffer[count++] = k * maxNodes + slot;
+            }
+        }
+        return count;
+    }
+}
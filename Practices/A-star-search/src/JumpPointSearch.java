@@ -0,0 +1,204 @@
+import search.IndexedMinHeap;
+
+import java.util.*;
+
+/**
+ * Jump Point Search (Harabor and Grastien): A* on a uniform-cost grid that only puts jump points in the open set.
+ *
+ * From a cell the search moves in a straight line (and diagonally with Movement.EIGHT) and skips every cell
+ * that another equally short path could also reach. It stops at the goal or at a cell with a forced
+ * neighbour, i.e. one that only becomes reachable because an obstacle blocks the symmetric path. Straight
+ * segments also stop where a perpendicular jump finds something (4-connected vertical moves, and both
+ * components of a diagonal move). Paths stay optimal, and on open maps only a handful of cells are expanded.
+ * The 4-connected pruning rules are the ones of the "never move diagonally" variant, and the 8-connected
+ * ones forbid cutting corners like Movement.canMove.
+ *
+ * The result is the same as AStarSolver.findPath: every cell of the path from start to goal.
+ */
+public class JumpPointSearch {
+    private final int[][] grid;
+    private final int rows, cols;
+    private final int goalRow, goalCol;
+    private final Movement movement;
+
+    private JumpPointSearch(int[][] grid, int[] goal, Movement movement) {
+        this.grid = grid;
+        this.rows = grid.length;
+        this.cols = grid[0].length;
+        this.goalRow = goal[0];
+        this.goalCol = goal[1];
+        this.movement = movement;
+    }
+
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal) {
+        return findPath(grid, start, goal, Movement.FOUR);
+    }
+
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Movement movement) {
+        return findPath(grid, start, goal, movement, new SearchContext(grid.length, grid[0].length));
+    }
+
+    public static List<Cell> findPath(int[][] grid, int[] start, int[] goal, Movement movement, SearchContext context) {
+        return new JumpPointSearch(grid, goal, movement).search(start[0] * grid[0].length + start[1], context);
+    }
+
+    private List<Cell> search(int start, SearchContext context) {
+        int goal = goalRow * cols + goalCol;
+        context.reset(grid);
+        IndexedMinHeap openSet = context.openSet;
+
+        context.update(start, 0, -1);
+        openSet.push(start, AStarSolver.priority(0, distance(start, goal)));
+        int[] directions = new int[16];
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            if (current == goal) return reconstructPath(context, current);
+            context.close(current);
+
+            int row = current / cols, col = current % cols;
+            int count = prunedDirections(row, col, context.parent(current), directions);
+            for (int d = 0; d < count; d += 2) {
+                int jumpPoint = jump(row, col, directions[d], directions[d + 1]);
+                if (jumpPoint < 0 || context.isClosed(jumpPoint)) continue;
+
+                int tentativeG = context.gCost(current) + distance(current, jumpPoint);
+                if (tentativeG < context.gCost(jumpPoint)) {
+                    context.update(jumpPoint, tentativeG, current);
+                    openSet.push(jumpPoint, AStarSolver.priority(tentativeG, distance(jumpPoint, goal)));
+                }
+            }
+        }
+        return Collections.emptyList(); // No path found
+    }
+
+    // Straight or diagonal distance between two cells on one line, or the heuristic for any two cells
+    private int distance(int a, int b) {
+        return movement.heuristic(a / cols - b / cols, a % cols - b % cols);
+    }
+
+    /**
+     * Directions worth searching from (row, col), as (dRow, dCol) pairs in out, returns 2 * their number.
+     * The start cell searches every direction. Any other cell searches the direction it was reached in plus
+     * the directions towards neighbours that the path from its parent cannot reach as cheaply.
+     */
+    private int prunedDirections(int row, int col, int parent, int[] out) {
+        int count = 0;
+        if (parent < 0) {
+            for (int[] dir : movement.directions) {
+                out[count++] = dir[0];
+                out[count++] = dir[1];
+            }
+            return count;
+        }
+        int dRow = Integer.signum(row - parent / cols);
+        int dCol = Integer.signum(col - parent % cols);
+
+        if (movement == Movement.FOUR) {
+            if (dCol != 0) { // horizontal: ahead, up, down
+                count = add(out, count, 0, dCol);
+                count = add(out, count, -1, 0);
+                count = add(out, count, 1, 0);
+            } else { // vertical: ahead, left, right
+                count = add(out, count, dRow, 0);
+                count = add(out, count, 0, -1);
+                count = add(out, count, 0, 1);
+            }
+            return count;
+        }
+
+        if (dRow != 0 && dCol != 0) {
+            boolean verticalFree = free(row + dRow, col);
+            boolean horizontalFree = free(row, col + dCol);
+            if (verticalFree) count = add(out, count, dRow, 0);
+            if (horizontalFree) count = add(out, count, 0, dCol);
+            if (verticalFree && horizontalFree) count = add(out, count, dRow, dCol);
+        } else if (dCol != 0) {
+            boolean aheadFree = free(row, col + dCol);
+            boolean upFree = free(row - 1, col), downFree = free(row + 1, col);
+            if (aheadFree) {
+                count = add(out, count, 0, dCol);
+                if (upFree) count = add(out, count, -1, dCol);
+                if (downFree) count = add(out, count, 1, dCol);
+            }
+            if (upFree) count = add(out, count, -1, 0);
+            if (downFree) count = add(out, count, 1, 0);
+        } else {
+            boolean aheadFree = free(row + dRow, col);
+            boolean leftFree = free(row, col - 1), rightFree = free(row, col + 1);
+            if (aheadFree) {
+                count = add(out, count, dRow, 0);
+                if (leftFree) count = add(out, count, dRow, -1);
+                if (rightFree) count = add(out, count, dRow, 1);
+            }
+            if (leftFree) count = add(out, count, 0, -1);
+            if (rightFree) count = add(out, count, 0, 1);
+        }
+        return count;
+    }
+
+    private static int add(int[] out, int count, int dRow, int dCol) {
+        out[count] = dRow;
+        out[count + 1] = dCol;
+        return count + 2;
+    }
+
+    /**
+     * Walks from (row, col) in direction (dRow, dCol) and returns the first jump point as a flat index,
+     * or -1 if the walk hits an obstacle or the border first. Only the perpendicular checks recurse,
+     * and only one level deep, so long corridors do not grow the stack.
+     */
+    private int jump(int row, int col, int dRow, int dCol) {
+        while (true) {
+            if (!movement.canMove(grid, row, col, dRow, dCol)) return -1;
+            row += dRow;
+            col += dCol;
+            if (row == goalRow && col == goalCol) return row * cols + col;
+
+            if (dRow != 0 && dCol != 0) {
+                if (jump(row, col, dRow, 0) >= 0 || jump(row, col, 0, dCol) >= 0) return row * cols + col;
+            } else if (dCol != 0) {
+                if (free(row - 1, col) && !free(row - 1, col - dCol) || free(row + 1, col) && !free(row + 1, col - dCol)) {
+                    return row * cols + col;
+                }
+            } else {
+                if (free(row, col - 1) && !free(row - dRow, col - 1) || free(row, col + 1) && !free(row - dRow, col + 1)) {
+                    return row * cols + col;
+                }
+                // 4-connected paths can only turn at a jump point, so look sideways from every vertical step
+                if (movement == Movement.FOUR && (jump(row, col, 0, 1) >= 0 || jump(row, col, 0, -1) >= 0)) {
+                    return row * cols + col;
+                }
+            }
+        }
+    }
+
+    private boolean free(int row, int col) {
+        return AStarSolver.isValid(grid, row, col);
+    }
+
+    // Fills in the cells between consecutive jump points, each segment is a straight or diagonal line
+    private List<Cell> reconstructPath(SearchContext context, int end) {
+        List<Cell> path = new ArrayList<>();
+        for (int at = end; at >= 0; at = context.parent(at)) {
+            int row = at / cols, col = at % cols;
+            Cell cell = new Cell(row, col);
+            cell.gCost = context.gCost(at);
+            path.add(cell);
+            int parent = context.parent(at);
+            if (parent < 0) break;
+            int dRow = Integer.signum(parent / cols - row), dCol = Integer.signum(parent % cols - col);
+            int g = cell.gCost;
+            for (int r = row + dRow, c = col + dCol; r * cols + c != parent; r += dRow, c += dCol) {
+                g -= movement.stepCost(dRow, dCol);
+                Cell between = new Cell(r, c);
+                between.gCost = g;
+                path.add(between);
+            }
+        }
+        Collections.reverse(path);
+        for (int i = 1; i < path.size(); i++) {
+            path.get(i).parent = path.get(i - 1);
+        }
+        return path;
+    }
+}
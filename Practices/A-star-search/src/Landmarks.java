@@ -0,0 +1,182 @@
+import search.SearchEngine;
+
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * ALT heuristic (A*, Landmarks, Triangle inequality; Goldberg and Harrelson) for one grid.
+ *
+ * For a landmark L the triangle inequality gives d(n, goal) >= |d(L, goal) - d(L, n)|, so exact distances
+ * from a few landmarks to every cell give an admissible and consistent heuristic: the largest of those
+ * differences, and never less than the Manhattan/octile distance. Behind walls and in mazes it is far
+ * tighter than the plain distance. The tables are computed once per map with a BFS (4-connected, unit
+ * steps) or Dijkstra (8-connected). They are stored as char[] (unsigned 16 bit) when every distance fits,
+ * int[] otherwise, i.e. 2 or 4 bytes per cell and landmark.
+ *
+ * The tables describe the grid they were built on; after a cell changes they must be rebuilt.
+ */
+public class Landmarks {
+    // Heuristic value for a cell that cannot reach the goal at all
+    public static final int UNREACHABLE = SearchEngine.PRUNE;
+    private static final char FAR = Character.MAX_VALUE;
+
+    final Movement movement;
+    private final int cols;
+    private final int[] cells;
+    private final char[][] shortTables; // exactly one of the two is set
+    private final int[][] intTables;
+
+    private Landmarks(Movement movement, int cols, int[] cells, int[][] distances) {
+        this.movement = movement;
+        this.cols = cols;
+        this.cells = cells;
+        int max = 0;
+        for (int[] table : distances) {
+            for (int d : table) {
+                if (d != UNREACHABLE) max = Math.max(max, d);
+            }
+        }
+        if (max < FAR) {
+            shortTables = new char[distances.length][];
+            for (int i = 0; i < distances.length; i++) {
+                char[] table = new char[distances[i].length];
+                for (int cell = 0; cell < table.length; cell++) {
+                    int d = distances[i][cell];
+                    table[cell] = d == UNREACHABLE ? FAR : (char) d;
+                }
+                shortTables[i] = table;
+            }
+            intTables = null;
+        } else {
+            shortTables = null;
+            intTables = distances;
+        }
+    }
+
+    // Landmarks on the given {row, col} cells
+    public static Landmarks of(int[][] grid, Movement movement, int[]... landmarks) {
+        int cols = grid[0].length;
+        SearchContext context = new SearchContext(grid.length, cols);
+        int[] cells = new int[landmarks.length];
+        int[][] distances = new int[landmarks.length][];
+        for (int i = 0; i < landmarks.length; i++) {
+            cells[i] = landmarks[i][0] * cols + landmarks[i][1];
+            distances[i] = distancesFrom(grid, movement, cells[i], context);
+        }
+        return new Landmarks(movement, cols, cells, distances);
+    }
+
+    /**
+     * Farthest-point selection: the first landmark is the cell farthest from the first free cell, every
+     * next one the cell farthest from all landmarks so far. Cells outside the component of the first free
+     * cell get no landmark, and queries there fall back to the plain distance.
+     */
+    public static Landmarks farthest(int[][] grid, Movement movement, int count) {
+        int rows = grid.length, cols = grid[0].length;
+        SearchContext context = new SearchContext(rows, cols);
+        int seed = -1;
+        for (int cell = 0; cell < rows * cols && seed < 0; cell++) {
+            if (grid[cell / cols][cell % cols] == 0) seed = cell;
+        }
+        List<int[]> distances = new ArrayList<>();
+        int[] cells = new int[count];
+        if (seed >= 0) {
+            int[] nearest = distancesFrom(grid, movement, seed, context);
+            while (distances.size() < count) {
+                int best = -1;
+                for (int cell = 0; cell < nearest.length; cell++) {
+                    if (nearest[cell] != UNREACHABLE && (best < 0 || nearest[cell] > nearest[best])) best = cell;
+                }
+                if (best < 0 || distances.size() > 0 && nearest[best] == 0) break; // every cell is a landmark
+                int[] table = distancesFrom(grid, movement, best, context);
+                cells[distances.size()] = best;
+                distances.add(table);
+                if (distances.size() == 1) nearest = table.clone();
+                else for (int cell = 0; cell < nearest.length; cell++) nearest[cell] = Math.min(nearest[cell], table[cell]);
+            }
+        }
+        return new Landmarks(movement, cols, Arrays.copyOf(cells, distances.size()), distances.toArray(new int[0][]));
+    }
+
+    // Exact distance from source to every cell, UNREACHABLE for other components and blocked cells
+    private static int[] distancesFrom(int[][] grid, Movement movement, int source, SearchContext context) {
+        int rows = grid.length, cols = grid[0].length;
+        int[] distance = new int[rows * cols];
+        Arrays.fill(distance, UNREACHABLE);
+        if (movement == Movement.FOUR) { // unit steps, a BFS is enough
+            int[] queue = new int[rows * cols];
+            int head = 0, tail = 0;
+            distance[source] = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int current = queue[head++];
+                int row = current / cols, col = current % cols;
+                for (int[] dir : movement.directions) {
+                    if (!movement.canMove(grid, row, col, dir[0], dir[1])) continue;
+                    int neighbor = current + dir[0] * cols + dir[1];
+                    if (distance[neighbor] == UNREACHABLE) {
+                        distance[neighbor] = distance[current] + 1;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            return distance;
+        }
+
+        context.reset(grid);
+        context.update(source, 0, -1);
+        context.openSet.push(source, 0);
+        while (!context.openSet.isEmpty()) {
+            int current = context.openSet.poll();
+            context.close(current);
+            distance[current] = context.gCost(current);
+            int row = current / cols, col = current % cols;
+            for (int[] dir : movement.directions) {
+                if (!movement.canMove(grid, row, col, dir[0], dir[1])) continue;
+                int neighbor = current + dir[0] * cols + dir[1];
+                if (context.isClosed(neighbor)) continue;
+                int tentativeG = distance[current] + movement.stepCost(dir[0], dir[1]);
+                if (tentativeG < context.gCost(neighbor)) {
+                    context.update(neighbor, tentativeG, current);
+                    context.openSet.push(neighbor, tentativeG);
+                }
+            }
+        }
+        return distance;
+    }
+
+    public int count() {
+        return cells.length;
+    }
+
+    public int[] landmark(int i) {
+        return new int[]{cells[i] / cols, cells[i] % cols};
+    }
+
+    private int distance(int landmark, int cell) {
+        if (shortTables != null) {
+            char d = shortTables[landmark][cell];
+            return d == FAR ? UNREACHABLE : d;
+        }
+        return intTables[landmark][cell];
+    }
+
+    // Heuristic towards (goalRow, goalCol), the landmark distances of the goal are looked up once
+    IntUnaryOperator heuristicTo(int goalRow, int goalCol) {
+        int goal = goalRow * cols + goalCol;
+        int[] toGoal = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) toGoal[i] = distance(i, goal);
+        return cell -> {
+            int h = movement.heuristic(cell / cols - goalRow, cell % cols - goalCol);
+            for (int i = 0; i < toGoal.length; i++) {
+                int d = distance(i, cell);
+                if (toGoal[i] == UNREACHABLE || d == UNREACHABLE) {
+                    if (toGoal[i] != d) return UNREACHABLE; // goal and cell are in different components
+                    continue;
+                }
+                h = Math.max(h, Math.abs(toGoal[i] - d));
+            }
+            return h;
+        };
+    }
+}
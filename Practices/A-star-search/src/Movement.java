@@ -0,0 +1,47 @@
+/**
+ * How a unit moves on the grid.
+ *
+ * FOUR: up, down, left, right at cost 1, Manhattan heuristic.
+ * EIGHT: also diagonally, at cost 10 for a straight step and 14 for a diagonal one (about 10 * sqrt(2)),
+ * with the matching octile heuristic. A diagonal step needs both cells it passes between to be free,
+ * so paths never cut the corner of a blocked cell.
+ */
+public enum Movement {
+    FOUR(new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}}, 1, 0),
+    EIGHT(new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}, {-1, -1}, {-1, 1}, {1, -1}, {1, 1}}, 10, 14);
+
+    final int[][] directions;
+    final int straightCost;
+    final int diagonalCost;
+
+    Movement(int[][] directions, int straightCost, int diagonalCost) {
+        this.directions = directions;
+        this.straightCost = straightCost;
+        this.diagonalCost = diagonalCost;
+    }
+
+    int stepCost(int dRow, int dCol) {
+        return dRow != 0 && dCol != 0 ? diagonalCost : straightCost;
+    }
+
+    // Exact cost of the cheapest path between cells dRow rows and dCol columns apart on an empty grid
+    int heuristic(int dRow, int dCol) {
+        dRow = Math.abs(dRow);
+        dCol = Math.abs(dCol);
+        if (this == FOUR) return dRow + dCol;
+        int diagonal = Math.min(dRow, dCol);
+        return diagonalCost * diagonal + straightCost * (Math.max(dRow, dCol) - diagonal);
+    }
+
+    // Whether a unit on (row, col) may step by (dRow, dCol)
+    boolean canMove(int[][] grid, int row, int col, int dRow, int dCol) {
+        if (!AStarSolver.isValid(grid, row + dRow, col + dCol)) return false;
+        return dRow == 0 || dCol == 0
+                || AStarSolver.isValid(grid, row + dRow, col) && AStarSolver.isValid(grid, row, col + dCol);
+    }
+
+    boolean canMove(BitGrid grid, int row, int col, int dRow, int dCol) {
+        if (!grid.isFree(row + dRow, col + dCol)) return false;
+        return dRow == 0 || dCol == 0 || grid.isFree(row + dRow, col) && grid.isFree(row, col + dCol);
+    }
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Loads maps in the MovingAI benchmark format (movingai.com/benchmarks) into a BitGrid:
+ *
+ *   type octile
+ *   height H
+ *   width W
+ *   map
+ *   H lines of W characters
+ *
+ * '.', 'G' and 'S' (swamp) are passable, everything else ('@', 'O', 'T', 'W') is blocked, as for the
+ * benchmark's ground units. The file is memory-mapped and parsed straight into an off-heap bitset, so a
+ * 100M-cell map takes 12.5 MB of direct memory and never exists as an int[][].
+ *
+ * The bitset can also be saved next to the map (map + ".bits": magic, rows, cols, reserved, then the words,
+ * all little endian) and is then mapped read-only on the next start instead of parsed (loadCached).
+ *
+ * Usage: MovingAiMap file.map [startRow startCol goalRow goalCol] [four|eight]
+ */
+public final class MovingAiMap {
+    private static final int MAGIC = 0x53544942; // "BITS"
+    private static final int HEADER_BYTES = 16;
+    public static final String PACKED_EXTENSION = ".bits";
+
+    private MovingAiMap() {
+    }
+
+    public static BitGrid load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException(file + ": map files over 2 GB are not supported");
+            MappedByteBuffer text = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return parse(text, file.toString());
+        }
+    }
+
+    private static BitGrid parse(ByteBuffer text, String name) throws IOException {
+        int[] at = {0};
+        int height = -1, width = -1;
+        for (String key = token(text, at, name); !key.equals("map"); key = token(text, at, name)) {
+            switch (key) {
+                case "type":
+                    token(text, at, name); // octile is the only type in use, the grid is the same for all
+                    break;
+                case "height":
+                    height = Integer.parseInt(token(text, at, name));
+                    break;
+                case "width":
+                    width = Integer.parseInt(token(text, at, name));
+                    break;
+                default:
+                    throw new IOException(name + ": unknown header field '" + key + "'");
+            }
+        }
+        if (height <= 0 || width <= 0) throw new IOException(name + ": missing or invalid height/width");
+        if ((long) height * width > Integer.MAX_VALUE) throw new IOException(name + ": " + height + "x" + width + " is too large");
+
+        int pos = skipLine(text, at[0]);
+        LongBuffer words = ByteBuffer.allocateDirect(BitGrid.words(height, width) * Long.BYTES)
+                .order(ByteOrder.nativeOrder()).asLongBuffer();
+        long word = 0;
+        int cell = 0;
+        for (int r = 0; r < height; r++) {
+            if (pos + width > text.limit()) throw new IOException(name + ": map ends at row " + r + " of " + height);
+            for (int c = 0; c < width; c++, cell++) {
+                byte b = text.get(pos + c);
+                if (b == '\n' || b == '\r') throw new IOException(name + ": row " + r + " is shorter than " + width);
+                if (b != '.' && b != 'G' && b != 'S') word |= 1L << cell;
+                if ((cell & 63) == 63) {
+                    words.put(cell >>> 6, word);
+                    word = 0;
+                }
+            }
+            pos += width;
+            if (pos < text.limit() && text.get(pos) == '\r') pos++;
+            if (pos < text.limit() && text.get(pos++) != '\n') throw new IOException(name + ": row " + r + " is longer than " + width);
+        }
+        if ((cell & 63) != 0) words.put(cell >>> 6, word);
+        return new BitGrid(height, width, words);
+    }
+
+    // Next whitespace separated word at or after at[0], as ASCII
+    private static String token(ByteBuffer text, int[] at, String name) throws IOException {
+        int pos = at[0];
+        while (pos < text.limit() && isSpace(text.get(pos))) pos++;
+        int start = pos;
+        while (pos < text.limit() && !isSpace(text.get(pos))) pos++;
+        if (start == pos) throw new IOException(name + ": header ends before 'map'");
+        byte[] bytes = new byte[pos - start];
+        text.get(start, bytes);
+        at[0] = pos;
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static int skipLine(ByteBuffer text, int pos) {
+        while (pos < text.limit() && text.get(pos) != '\n') pos++;
+        return pos + 1;
+    }
+
+    // Writes the bitset, replacing file atomically
+    public static void writePacked(BitGrid grid, Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(grid.rows()).putInt(grid.cols()).putInt(0);
+            LongBuffer words = grid.words();
+            for (int i = 0, n = BitGrid.words(grid.rows(), grid.cols()); i < n; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) channel.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putLong(words.get(i));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Maps a file written by writePacked; the grid reads the page cache directly
+    public static BitGrid mapPacked(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) throw new IOException(file + ": not a packed grid");
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC) throw new IOException(file + ": not a packed grid");
+            int rows = mapped.getInt(4), cols = mapped.getInt(8);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE
+                    || channel.size() != HEADER_BYTES + (long) BitGrid.words(rows, cols) * Long.BYTES) {
+                throw new IOException(file + ": corrupt packed grid header");
+            }
+            LongBuffer words = mapped.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            return new BitGrid(rows, cols, words);
+        }
+    }
+
+    // Maps map + ".bits" if it is newer than the map, otherwise parses the map and writes it
+    public static BitGrid loadCached(Path file) throws IOException {
+        Path packed = file.resolveSibling(file.getFileName() + PACKED_EXTENSION);
+        if (Files.exists(packed) && Files.getLastModifiedTime(packed).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+            return mapPacked(packed);
+        }
+        BitGrid grid = load(file);
+        writePacked(grid, packed);
+        return grid;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: MovingAiMap file.map [startRow startCol goalRow goalCol] [four|eight]");
+            return;
+        }
+        long begin = System.nanoTime();
+        BitGrid grid = loadCached(Paths.get(args[0]));
+        System.out.printf("%s: %dx%d, %d blocked (%.1f ms)%n", args[0], grid.rows(), grid.cols(),
+                grid.countBlocked(), (System.nanoTime() - begin) / 1e6);
+        if (args.length < 5) return;
+
+        int[] start = {Integer.parseInt(args[1]), Integer.parseInt(args[2])};
+        int[] goal = {Integer.parseInt(args[3]), Integer.parseInt(args[4])};
+        Movement movement = args.length > 5 && args[5].equalsIgnoreCase("eight") ? Movement.EIGHT : Movement.FOUR;
+        begin = System.nanoTime();
+        List<Cell> path = AStarSolver.findPath(grid, start, goal, movement);
+        double millis = (System.nanoTime() - begin) / 1e6;
+        if (path.isEmpty()) System.out.printf("No path found (%.1f ms)%n", millis);
+        else System.out.printf("Path of %d cells, cost %d (%.1f ms)%n", path.size(), path.get(path.size() - 1).gCost, millis);
+    }
+}
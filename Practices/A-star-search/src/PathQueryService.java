@@ -0,0 +1,173 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Thread-safe A* queries against one shared, immutable BitGrid: many agents, one map.
+ *
+ * Every worker thread keeps its own SearchContext, so queries share no mutable state and allocate nothing
+ * per cell. Results are immutable Path objects instead of Cells with mutable gCost/parent fields.
+ * findPath can be called from any thread; solveAll spreads a batch over a fork-join pool and reports
+ * throughput and latency percentiles. Java 17 has no virtual threads, and the searches are CPU bound,
+ * so one pool thread per core is the right shape anyway.
+ *
+ * Each context holds about 28 bytes per cell, so a 4000 x 4000 map costs ~450 MB per thread.
+ *
+ * Usage: PathQueryService [size] [obstacle%] [queries] [threads] [four|eight]
+ */
+public class PathQueryService implements AutoCloseable {
+    private final BitGrid grid;
+    private final Movement movement;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<SearchContext> contexts;
+
+    public PathQueryService(BitGrid grid, Movement movement, int threads) {
+        this.grid = grid;
+        this.movement = movement;
+        this.pool = new ForkJoinPool(threads);
+        this.contexts = ThreadLocal.withInitial(() -> new SearchContext(grid.rows(), grid.cols()));
+    }
+
+    // A path as flat cell indices from start to goal, empty if there is none
+    public static final class Path {
+        static final Path NONE = new Path(new int[0], -1, 1);
+
+        private final int[] cells;
+        private final int cost;
+        private final int cols;
+
+        private Path(int[] cells, int cost, int cols) {
+            this.cells = cells;
+            this.cost = cost;
+            this.cols = cols;
+        }
+
+        public boolean isEmpty() {
+            return cells.length == 0;
+        }
+
+        public int length() {
+            return cells.length;
+        }
+
+        public int row(int i) {
+            return cells[i] / cols;
+        }
+
+        public int col(int i) {
+            return cells[i] % cols;
+        }
+
+        // Total step cost, -1 if there is no path
+        public int cost() {
+            return cost;
+        }
+    }
+
+    public static final class Report {
+        private final Path[] paths;
+        private final long[] sortedLatencies;
+        private final long wallNanos;
+
+        private Report(Path[] paths, long[] latencies, long wallNanos) {
+            this.paths = paths;
+            this.sortedLatencies = latencies.clone();
+            this.wallNanos = wallNanos;
+            Arrays.sort(sortedLatencies);
+        }
+
+        public Path path(int i) {
+            return paths[i];
+        }
+
+        public double queriesPerSecond() {
+            return paths.length / (wallNanos / 1e9);
+        }
+
+        // Nearest-rank percentile of the per-query latencies, in milliseconds
+        public double latencyMillis(double percentile) {
+            if (sortedLatencies.length == 0) return 0;
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+            return sortedLatencies[Math.max(0, Math.min(sortedLatencies.length, rank) - 1)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queries in %.1f ms: %.0f queries/s, latency p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms",
+                    paths.length, wallNanos / 1e6, queriesPerSecond(),
+                    latencyMillis(50), latencyMillis(90), latencyMillis(99), latencyMillis(100));
+        }
+    }
+
+    public Path findPath(int[] start, int[] goal) {
+        return search(contexts.get(), start[0], start[1], goal[0], goal[1]);
+    }
+
+    // Each query is {startRow, startCol, goalRow, goalCol}
+    public Report solveAll(int[][] queries) {
+        Path[] paths = new Path[queries.length];
+        long[] latencies = new long[queries.length];
+        long begin = System.nanoTime();
+        pool.submit(() -> IntStream.range(0, queries.length).parallel().forEach(i -> {
+            int[] q = queries[i];
+            long start = System.nanoTime();
+            paths[i] = search(contexts.get(), q[0], q[1], q[2], q[3]);
+            latencies[i] = System.nanoTime() - start;
+        })).join();
+        return new Report(paths, latencies, System.nanoTime() - begin);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private Path search(SearchContext context, int startRow, int startCol, int goalRow, int goalCol) {
+        if (!grid.isFree(startRow, startCol) || !grid.isFree(goalRow, goalCol)) return Path.NONE;
+        int cols = grid.cols();
+        context.reset(grid);
+        int end = AStarSolver.search(cols, startRow * cols + startCol, goalRow * cols + goalCol, movement,
+                (row, col, dRow, dCol) -> movement.canMove(grid, row, col, dRow, dCol),
+                cell -> movement.heuristic(cell / cols - goalRow, cell % cols - goalCol), context);
+        return end < 0 ? Path.NONE : toPath(context, end, cols);
+    }
+
+    private static Path toPath(SearchContext context, int end, int cols) {
+        int length = 0;
+        for (int at = end; at >= 0; at = context.parent(at)) length++;
+        int[] cells = new int[length];
+        for (int at = end; at >= 0; at = context.parent(at)) cells[--length] = at;
+        return new Path(cells, context.gCost(end), cols);
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double obstacles = args.length > 1 ? Double.parseDouble(args[1]) / 100 : 0.2;
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        Movement movement = args.length > 4 && args[4].equalsIgnoreCase("eight") ? Movement.EIGHT : Movement.FOUR;
+
+        Random random = new Random(42);
+        int[][] cells = new int[size][size];
+        for (int[] row : cells) {
+            for (int c = 0; c < size; c++) row[c] = random.nextDouble() < obstacles ? 1 : 0;
+        }
+        int[][] queries = new int[count][];
+        for (int i = 0; i < count; i++) {
+            queries[i] = new int[]{random.nextInt(size), random.nextInt(size), random.nextInt(size), random.nextInt(size)};
+        }
+        BitGrid grid = BitGrid.of(cells);
+        System.out.printf("%dx%d grid, %d blocked, %s, %d threads%n", size, size, grid.countBlocked(), movement, threads);
+
+        try (PathQueryService service = new PathQueryService(grid, movement, threads)) {
+            service.solveAll(Arrays.copyOf(queries, Math.min(count, 100))); // warm-up
+            Report report = service.solveAll(queries);
+            System.out.println(report);
+            int found = 0;
+            for (int i = 0; i < count; i++) {
+                if (!report.path(i).isEmpty()) found++;
+            }
+            System.out.println(found + " of " + count + " queries have a path");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import search.ArrayStateTable;
+import search.IndexedMinHeap;
+import search.SearchEngine;
+
+import java.util.*;
+
+/**
+ * Per-query state of a grid search, reusable across queries on grids of the same size: a SearchEngine
+ * over an IndexedMinHeap and an ArrayStateTable, both keyed by the flat cell index row * cols + col.
+ *
+ * The table is generation-stamped, so starting a query is O(1) (plus whatever was left in the open set),
+ * not O(rows * cols), and nothing is allocated per query except the returned path. The searches that run
+ * their own loop (JumpPointSearch, HierarchicalPathfinder, Landmarks) use the table through the methods below.
+ *
+ * A context is not thread safe; use one per thread.
+ */
+public class SearchContext {
+    final int rows, cols;
+    final IndexedMinHeap openSet;
+    private final ArrayStateTable table;
+    final SearchEngine engine;
+
+    public SearchContext(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        int size = rows * cols;
+        this.openSet = new IndexedMinHeap(size);
+        this.table = new ArrayStateTable(size);
+        this.engine = new SearchEngine(openSet, table);
+    }
+
+    // Starts a new query on grid
+    void reset(int[][] grid) {
+        checkSize(grid.length, grid[0].length);
+        reset();
+    }
+
+    void reset(BitGrid grid) {
+        checkSize(grid.rows(), grid.cols());
+        reset();
+    }
+
+    private void checkSize(int gridRows, int gridCols) {
+        if (gridRows != rows || gridCols != cols) {
+            throw new IllegalArgumentException("context is for a " + rows + "x" + cols + " grid, got "
+                    + gridRows + "x" + gridCols);
+        }
+    }
+
+    // Starts a new query over the node ids 0..rows * cols - 1, for searches on graphs other than the grid itself
+    void reset() {
+        openSet.clear();
+        table.reset();
+    }
+
+    int gCost(int cell) {
+        return table.gCost(cell);
+    }
+
+    // -1 for the start cell or a cell not reached in this query
+    int parent(int cell) {
+        return table.parent(cell);
+    }
+
+    void update(int cell, int g, int from) {
+        table.update(cell, g, from);
+    }
+
+    boolean isClosed(int cell) {
+        return table.isClosed(cell);
+    }
+
+    void close(int cell) {
+        table.close(cell);
+    }
+
+    // Number of cells expanded by the last query
+    public int getExpanded() {
+        return table.expanded();
+    }
+
+    // Cells from the start to end, following parent links
+    List<Cell> reconstructPath(int end) {
+        List<Cell> path = new ArrayList<>();
+        for (int at = end; at >= 0; at = parent(at)) {
+            Cell cell = new Cell(at / cols, at % cols);
+            cell.gCost = table.gCost(at);
+            path.add(cell);
+        }
+        Collections.reverse(path);
+        for (int i = 1; i < path.size(); i++) {
+            path.get(i).parent = path.get(i - 1);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,197 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every pathfinder on small random grids against a plain Dijkstra written here: A*, JPS, ALT, the packed grid
+ * and the batch query service must find the optimal cost, HPA* a valid path that is never cheaper than it,
+ * and D* Lite the optimal cost again after cells change and the start moves. Also reads a Moving AI map and
+ * round trips it through the packed format.
+ */
+class GridRegressionTest {
+    private static final int NO_PATH = -1;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void exactSearchesMatchDijkstra() {
+        Random random = new Random(318);
+        for (int run = 0; run < 300; run++) {
+            Movement movement = Movement.values()[run % 2];
+            int[][] grid = randomGrid(random, 2 + random.nextInt(40), 2 + random.nextInt(40));
+            int rows = grid.length, cols = grid[0].length;
+            Landmarks landmarks = Landmarks.farthest(grid, movement, 1 + random.nextInt(6));
+            SearchContext context = new SearchContext(rows, cols);
+            BitGrid bits = BitGrid.of(grid);
+
+            int[][] queries = new int[20][];
+            for (int q = 0; q < queries.length; q++) {
+                int[] start = freeCell(grid, random), goal = freeCell(grid, random);
+                queries[q] = new int[]{start[0], start[1], goal[0], goal[1]};
+                int expected = dijkstra(grid, start, goal, movement);
+                String name = "run " + run + " " + movement + " query " + q;
+
+                assertEquals(expected, checkedCost(grid, AStarSolver.findPath(grid, start, goal, movement), start, goal, movement), name + " A*");
+                assertEquals(expected, checkedCost(grid, JumpPointSearch.findPath(grid, start, goal, movement, context), start, goal, movement), name + " JPS");
+                assertEquals(expected, checkedCost(grid, AStarSolver.findPath(grid, start, goal, landmarks, context), start, goal, movement), name + " ALT");
+                assertEquals(expected, checkedCost(grid, AStarSolver.findPath(bits, start, goal, movement, context), start, goal, movement), name + " BitGrid");
+            }
+
+            try (PathQueryService service = new PathQueryService(bits, movement, 2)) {
+                PathQueryService.Report report = service.solveAll(queries);
+                for (int q = 0; q < queries.length; q++) {
+                    int[] start = {queries[q][0], queries[q][1]}, goal = {queries[q][2], queries[q][3]};
+                    PathQueryService.Path path = report.path(q);
+                    assertEquals(dijkstra(grid, start, goal, movement), path.cost(), "run " + run + " service query " + q);
+                    if (!path.isEmpty()) {
+                        assertArrayEquals(start, new int[]{path.row(0), path.col(0)});
+                        assertArrayEquals(goal, new int[]{path.row(path.length() - 1), path.col(path.length() - 1)});
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void hierarchicalPathsAreValidAndNeverBelowOptimum() {
+        Random random = new Random(42);
+        for (int run = 0; run < 150; run++) {
+            Movement movement = Movement.values()[run % 2];
+            int[][] grid = randomGrid(random, 5 + random.nextInt(50), 5 + random.nextInt(50));
+            HierarchicalPathfinder hpa = new HierarchicalPathfinder(grid, 2 + random.nextInt(12), movement);
+            for (int round = 0; round < 3; round++) {
+                for (int q = 0; q < 15; q++) {
+                    int[] start = freeCell(grid, random), goal = freeCell(grid, random);
+                    int optimum = dijkstra(grid, start, goal, movement);
+                    int cost = checkedCost(grid, hpa.findPath(start, goal), start, goal, movement);
+                    String name = "run " + run + " round " + round + " query " + q;
+                    assertEquals(optimum == NO_PATH, cost == NO_PATH, name + " reachability");
+                    assertTrue(cost >= optimum, name + ": " + cost + " below the optimum " + optimum);
+                }
+                for (int edit = 0; edit < 5; edit++) {
+                    int row = random.nextInt(grid.length), col = random.nextInt(grid[0].length);
+                    hpa.setCell(row, col, 1 - grid[row][col]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void dStarLiteReplansOptimally() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            Movement movement = Movement.values()[run % 2];
+            int[][] grid = randomGrid(random, 3 + random.nextInt(30), 3 + random.nextInt(30));
+            int[] start = freeCell(grid, random), goal = freeCell(grid, random);
+            DStarLite dStar = new DStarLite(grid, start, goal, movement);
+            for (int round = 0; round < 10; round++) {
+                List<Cell> path = dStar.getPath();
+                assertEquals(dijkstra(grid, start, goal, movement), checkedCost(grid, path, start, goal, movement), "run " + run + " round " + round);
+                if (path.size() > 1 && random.nextBoolean()) {
+                    start = new int[]{path.get(1).row, path.get(1).col};
+                    dStar.moveStart(start[0], start[1]);
+                }
+                for (int edit = 0; edit < 4; edit++) {
+                    int row = random.nextInt(grid.length), col = random.nextInt(grid[0].length);
+                    if (row == start[0] && col == start[1] || row == goal[0] && col == goal[1]) continue;
+                    dStar.setCell(row, col, 1 - grid[row][col]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void movingAiMapAndPackedRoundTrip() throws IOException {
+        // '.', 'G' and 'S' are passable, every other terrain character is blocked; CRLF line ends are accepted
+        Path map = Files.writeString(dir.resolve("small.map"), "type octile\r\nheight 3\r\nwidth 4\r\nmap\r\n.G@T\r\nS.W.\r\nO...\r\n");
+        BitGrid grid = MovingAiMap.load(map);
+        int[][] expected = {{0, 0, 1, 1}, {0, 0, 1, 0}, {1, 0, 0, 0}};
+        assertEquals(3, grid.rows());
+        assertEquals(4, grid.cols());
+        assertEquals(4, grid.countBlocked());
+
+        Path packed = dir.resolve("small.map" + MovingAiMap.PACKED_EXTENSION);
+        MovingAiMap.writePacked(grid, packed);
+        BitGrid mapped = MovingAiMap.mapPacked(packed);
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 4; col++) {
+                assertEquals(expected[row][col] == 0, grid.isFree(row, col), row + "," + col);
+                assertEquals(expected[row][col] == 0, mapped.isFree(row, col), row + "," + col);
+            }
+        }
+        int[] start = {0, 0}, goal = {1, 3};
+        assertEquals(dijkstra(expected, start, goal, Movement.FOUR), checkedCost(expected, AStarSolver.findPath(mapped, start, goal, Movement.FOUR), start, goal, Movement.FOUR));
+
+        Path broken = Files.writeString(dir.resolve("broken.map"), "type octile\nheight 2\nwidth 3\nmap\n...\n..\n");
+        assertThrows(IOException.class, () -> MovingAiMap.load(broken));
+    }
+
+    private static int[][] randomGrid(Random random, int rows, int cols) {
+        double density = random.nextDouble() * 0.4;
+        int[][] grid = new int[rows][cols];
+        for (int[] row : grid) {
+            for (int col = 0; col < cols; col++) row[col] = random.nextDouble() < density ? 1 : 0;
+        }
+        grid[random.nextInt(rows)][random.nextInt(cols)] = 0; // at least one free cell
+        return grid;
+    }
+
+    // A random free cell; the grid is not changed, the structures built from it would not see that
+    private static int[] freeCell(int[][] grid, Random random) {
+        while (true) {
+            int[] cell = {random.nextInt(grid.length), random.nextInt(grid[0].length)};
+            if (grid[cell[0]][cell[1]] == 0) return cell;
+        }
+    }
+
+    // Checks that path runs from start to goal in legal steps with consistent g costs; returns its cost
+    private static int checkedCost(int[][] grid, List<Cell> path, int[] start, int[] goal, Movement movement) {
+        if (path.isEmpty()) return NO_PATH;
+        assertArrayEquals(start, new int[]{path.get(0).row, path.get(0).col}, "path start");
+        assertArrayEquals(goal, new int[]{path.get(path.size() - 1).row, path.get(path.size() - 1).col}, "path end");
+        int cost = 0;
+        for (int i = 1; i < path.size(); i++) {
+            Cell from = path.get(i - 1), to = path.get(i);
+            int dRow = to.row - from.row, dCol = to.col - from.col;
+            assertTrue(Math.abs(dRow) <= 1 && Math.abs(dCol) <= 1 && (dRow != 0 || dCol != 0), "step " + i + " is not to a neighbour");
+            assertTrue(movement == Movement.EIGHT || dRow == 0 || dCol == 0, "diagonal step " + i);
+            assertTrue(movement.canMove(grid, from.row, from.col, dRow, dCol), "step " + i + " is blocked");
+            cost += movement.stepCost(dRow, dCol);
+            assertEquals(cost, to.gCost, "g cost of step " + i);
+        }
+        return cost;
+    }
+
+    private static int dijkstra(int[][] grid, int[] start, int[] goal, Movement movement) {
+        int rows = grid.length, cols = grid[0].length;
+        int[] distance = new int[rows * cols];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        PriorityQueue<int[]> queue = new PriorityQueue<>(Comparator.comparingInt((int[] e) -> e[0]));
+        distance[start[0] * cols + start[1]] = 0;
+        queue.add(new int[]{0, start[0] * cols + start[1]});
+        while (!queue.isEmpty()) {
+            int[] entry = queue.poll();
+            int cell = entry[1];
+            if (entry[0] > distance[cell]) continue;
+            if (cell == goal[0] * cols + goal[1]) return entry[0];
+            int row = cell / cols, col = cell % cols;
+            for (int[] direction : movement.directions) {
+                if (!movement.canMove(grid, row, col, direction[0], direction[1])) continue;
+                int next = cell + direction[0] * cols + direction[1];
+                int d = entry[0] + movement.stepCost(direction[0], direction[1]);
+                if (d < distance[next]) {
+                    distance[next] = d;
+                    queue.add(new int[]{d, next});
+                }
+            }
+        }
+        return NO_PATH;
+    }
+}
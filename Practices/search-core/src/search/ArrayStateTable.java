@@ -0,0 +1,82 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * StateTable in flat int arrays indexed by state id, for dense ids such as grid cells.
+ *
+ * Instead of clearing the arrays, reset bumps a generation counter: a state's g-cost and parent only
+ * count if visited[state] == generation, and it is closed only if closed[state] == generation. Starting
+ * a search is therefore O(1), not O(states). The arrays grow when a larger id is written, so the table
+ * also serves state spaces that hand out ids as they discover states.
+ */
+public class ArrayStateTable implements StateTable {
+    private int[] gCost;
+    private int[] parent;
+    private int[] visited;
+    private int[] closed;
+    private int generation = 1;
+    private int expanded;
+
+    public ArrayStateTable(int capacity) {
+        capacity = Math.max(capacity, 1);
+        gCost = new int[capacity];
+        parent = new int[capacity];
+        visited = new int[capacity];
+        closed = new int[capacity];
+    }
+
+    @Override
+    public void reset() {
+        expanded = 0;
+        if (++generation == Integer.MAX_VALUE) { // wrapped after 2^31 searches, clear the stamps once
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    @Override
+    public int gCost(int state) {
+        return state < visited.length && visited[state] == generation ? gCost[state] : Integer.MAX_VALUE;
+    }
+
+    // -1 for the start state or a state not reached in this search
+    @Override
+    public int parent(int state) {
+        return state < visited.length && visited[state] == generation ? parent[state] : -1;
+    }
+
+    @Override
+    public void update(int state, int g, int from) {
+        if (state >= visited.length) grow(state);
+        visited[state] = generation;
+        gCost[state] = g;
+        parent[state] = from;
+    }
+
+    @Override
+    public boolean isClosed(int state) {
+        return state < closed.length && closed[state] == generation;
+    }
+
+    @Override
+    public void close(int state) {
+        if (state >= closed.length) grow(state);
+        closed[state] = generation;
+        expanded++;
+    }
+
+    @Override
+    public int expanded() {
+        return expanded;
+    }
+
+    private void grow(int state) {
+        int capacity = Math.max(state + 1, 2 * visited.length);
+        gCost = Arrays.copyOf(gCost, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+        closed = Arrays.copyOf(closed, capacity);
+    }
+}
@@ -0,0 +1,94 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * Open list with one bucket per f = priority >>> 32 (SearchEngine.priority), for searches whose f-values
+ * are small integers, e.g. unit-cost puzzles. push and poll are O(1) amortized instead of O(log n).
+ *
+ * Within a bucket states come out last in, first out, which prefers the deepest states but ignores the
+ * h part of the priority. Changing a priority pushes the state again and the stale entry is skipped
+ * when it comes up.
+ */
+public class BucketOpenList implements OpenList {
+    private static final long ABSENT = -1;
+
+    private int[][] buckets = new int[64][];
+    private int[] bucketSize = new int[64];
+    private long[] priority;
+    private int minBucket = Integer.MAX_VALUE;
+    private int maxBucket = -1;
+    private int size;
+
+    public BucketOpenList(int capacity) {
+        priority = new long[Math.max(capacity, 1)];
+        Arrays.fill(priority, ABSENT);
+    }
+
+    @Override
+    public void push(int state, long p) {
+        if (state >= priority.length) {
+            int old = priority.length;
+            priority = Arrays.copyOf(priority, Math.max(state + 1, 2 * old));
+            Arrays.fill(priority, old, priority.length, ABSENT);
+        }
+        if (priority[state] == ABSENT) size++;
+        else if (priority[state] >>> 32 == p >>> 32) {
+            priority[state] = p; // same bucket, the entry there is still valid
+            return;
+        }
+        priority[state] = p;
+
+        int f = (int) (p >>> 32);
+        if (f >= buckets.length) {
+            int capacity = Math.max(f + 1, 2 * buckets.length);
+            buckets = Arrays.copyOf(buckets, capacity);
+            bucketSize = Arrays.copyOf(bucketSize, capacity);
+        }
+        int[] bucket = buckets[f];
+        if (bucket == null) bucket = buckets[f] = new int[16];
+        else if (bucketSize[f] == bucket.length) bucket = buckets[f] = Arrays.copyOf(bucket, 2 * bucket.length);
+        bucket[bucketSize[f]++] = state;
+        minBucket = Math.min(minBucket, f);
+        maxBucket = Math.max(maxBucket, f);
+    }
+
+    @Override
+    public int poll() {
+        while (true) {
+            while (bucketSize[minBucket] == 0) minBucket++;
+            int state = buckets[minBucket][--bucketSize[minBucket]];
+            if (priority[state] != ABSENT && priority[state] >>> 32 == minBucket) {
+                priority[state] = ABSENT;
+                size--;
+                return state;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(int state) {
+        return state < priority.length && priority[state] != ABSENT;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int f = Math.max(minBucket, 0); f <= maxBucket; f++) {
+            for (int i = 0; i < bucketSize[f]; i++) priority[buckets[f][i]] = ABSENT;
+            bucketSize[f] = 0;
+        }
+        minBucket = Integer.MAX_VALUE;
+        maxBucket = -1;
+        size = 0;
+    }
+}
@@ -0,0 +1,115 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * StateTable in an open-addressing hash table, for sparse ids where arrays indexed by id would be
+ * mostly empty (e.g. a short search on a huge map). Memory grows with the most states any search has
+ * reached, not with the largest id, and so does the cost of reset.
+ */
+public class HashStateTable implements StateTable {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] gCost;
+    private int[] parent;
+    private boolean[] closed;
+    private int size;
+    private int expanded;
+
+    public HashStateTable(int expectedStates) {
+        int capacity = Integer.highestOneBit(Math.max(16, 2 * expectedStates - 1)) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        gCost = new int[capacity];
+        parent = new int[capacity];
+        closed = new boolean[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    @Override
+    public void reset() {
+        if (size > 0) Arrays.fill(keys, EMPTY);
+        size = 0;
+        expanded = 0;
+    }
+
+    // Slot of state, or the empty slot where it would go
+    private int slot(int state) {
+        int mask = keys.length - 1;
+        int mix = state * 0x9E3779B9;
+        int slot = (mix ^ mix >>> 16) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != state) slot = slot + 1 & mask;
+        return slot;
+    }
+
+    // Slot of state, inserting it (unreached, open) if it is not in the table yet
+    private int insert(int state) {
+        int slot = slot(state);
+        if (keys[slot] == EMPTY) {
+            if (2 * (size + 1) > keys.length) {
+                rehash();
+                slot = slot(state);
+            }
+            keys[slot] = state;
+            gCost[slot] = Integer.MAX_VALUE;
+            parent[slot] = -1;
+            closed[slot] = false;
+            size++;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys, oldG = gCost, oldParent = parent;
+        boolean[] oldClosed = closed;
+        allocate(2 * oldKeys.length);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = slot(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            gCost[slot] = oldG[i];
+            parent[slot] = oldParent[i];
+            closed[slot] = oldClosed[i];
+        }
+    }
+
+    @Override
+    public int gCost(int state) {
+        int slot = slot(state);
+        return keys[slot] == EMPTY ? Integer.MAX_VALUE : gCost[slot];
+    }
+
+    @Override
+    public int parent(int state) {
+        int slot = slot(state);
+        return keys[slot] == EMPTY ? -1 : parent[slot];
+    }
+
+    @Override
+    public void update(int state, int g, int from) {
+        int slot = insert(state);
+        gCost[slot] = g;
+        parent[slot] = from;
+    }
+
+    @Override
+    public boolean isClosed(int state) {
+        int slot = slot(state);
+        return keys[slot] != EMPTY && closed[slot];
+    }
+
+    @Override
+    public void close(int state) {
+        closed[insert(state)] = true;
+        expanded++;
+    }
+
+    @Override
+    public int expanded() {
+        return expanded;
+    }
+}
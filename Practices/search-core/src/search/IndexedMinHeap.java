@@ -0,0 +1,137 @@
+package search;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over the integers 0, 1, 2, ... (state ids, e.g. flat cell indices row * cols + col) with decrease-key.
+ *
+ * position[i] is the slot of i in the heap or -1, so contains() is O(1) and changing the priority of an
+ * element already in the heap is O(log n), instead of the linear scans of PriorityQueue.contains/remove.
+ * Everything is kept in primitive arrays, which grow when an id beyond the initial capacity is pushed.
+ */
+public class IndexedMinHeap implements OpenList {
+    private int[] heap;
+    private int[] position;
+    private long[] priority;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        capacity = Math.max(capacity, 1);
+        heap = new int[capacity];
+        position = new int[capacity];
+        priority = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int i) {
+        return i < position.length && position[i] >= 0;
+    }
+
+    public long priority(int i) {
+        return priority[i];
+    }
+
+    // Inserts i, or moves it to its new place if it is already in the heap
+    @Override
+    public void push(int i, long p) {
+        if (i >= position.length) grow(i);
+        int slot = position[i];
+        if (slot < 0) {
+            priority[i] = p;
+            heap[size] = i;
+            position[i] = size;
+            siftUp(size++);
+        } else {
+            long old = priority[i];
+            priority[i] = p;
+            if (p < old) siftUp(slot);
+            else if (p > old) siftDown(slot);
+        }
+    }
+
+    public int peek() {
+        return heap[0];
+    }
+
+    @Override
+    public int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void remove(int i) {
+        if (!contains(i)) return;
+        int slot = position[i];
+        position[i] = -1;
+        if (--size > slot) {
+            int moved = heap[size];
+            heap[slot] = moved;
+            position[moved] = slot;
+            siftUp(slot);
+            siftDown(position[moved]);
+        }
+    }
+
+    // O(size), so a mostly drained heap is cheap to reuse
+    @Override
+    public void clear() {
+        for (int s = 0; s < size; s++) position[heap[s]] = -1;
+        size = 0;
+    }
+
+    private void grow(int i) {
+        int capacity = Math.max(i + 1, 2 * position.length);
+        int old = position.length;
+        heap = Arrays.copyOf(heap, capacity);
+        position = Arrays.copyOf(position, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        Arrays.fill(position, old, capacity, -1);
+    }
+
+    private void siftUp(int slot) {
+        int i = heap[slot];
+        long p = priority[i];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (priority[heap[parent]] <= p) break;
+            heap[slot] = heap[parent];
+            position[heap[slot]] = slot;
+            slot = parent;
+        }
+        heap[slot] = i;
+        position[i] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int i = heap[slot];
+        long p = priority[i];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) break;
+            if (child + 1 < size && priority[heap[child + 1]] < priority[heap[child]]) child++;
+            if (priority[heap[child]] >= p) break;
+            heap[slot] = heap[child];
+            position[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = i;
+        position[i] = slot;
+    }
+}
@@ -0,0 +1,20 @@
+package search;
+
+/**
+ * Open list of a best-first search: state ids ordered by a long priority, lowest first.
+ * push inserts a state or changes the priority of one that is already in the list.
+ */
+public interface OpenList {
+    void push(int state, long priority);
+
+    // Removes and returns a state with the lowest priority
+    int poll();
+
+    boolean contains(int state);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+}
@@ -0,0 +1,100 @@
+package search;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Best-first (A*) search over any StateSpace, with the open list and the state table as interchangeable
+ * back ends, e.g. IndexedMinHeap or BucketOpenList, and ArrayStateTable or HashStateTable.
+ *
+ * The heuristic maps a state id to a lower bound on its distance to a goal, or PRUNE for a state that
+ * cannot reach one. States are closed when expanded and never reopened, so the heuristic should be
+ * consistent for the result to be optimal. An engine keeps its back ends between searches and is not
+ * thread safe; use one per thread.
+ */
+public final class SearchEngine implements StateSpace.SuccessorSink {
+    public static final int PRUNE = Integer.MAX_VALUE;
+
+    private final OpenList openSet;
+    private final StateTable table;
+    private IntUnaryOperator heuristic;
+    private int current, currentG;
+    private long generated;
+
+    public SearchEngine(OpenList openSet, StateTable table) {
+        this.openSet = openSet;
+        this.table = table;
+    }
+
+    // Lowest f first, ties go to the state closer to the goal (lower h)
+    public static long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    public OpenList openSet() {
+        return openSet;
+    }
+
+    public StateTable table() {
+        return table;
+    }
+
+    /**
+     * Searches from start until a goal is expanded. Returns that goal, or -1 if no goal can be reached;
+     * g-costs and parent links of the search stay in table() until the next search.
+     */
+    public int search(StateSpace space, int start, IntUnaryOperator heuristic) {
+        table.reset();
+        openSet.clear();
+        generated = 0;
+        int h = heuristic.applyAsInt(start);
+        if (h == PRUNE) return -1;
+        this.heuristic = heuristic;
+        table.update(start, 0, -1);
+        openSet.push(start, priority(0, h));
+        generated++;
+
+        while (!openSet.isEmpty()) {
+            int state = openSet.poll();
+            if (space.isGoal(state)) return state;
+
+            table.close(state);
+            current = state;
+            currentG = table.gCost(state);
+            space.forEachSuccessor(state, this);
+        }
+        return -1; // No path found
+    }
+
+    // Relaxes the edge from the state being expanded, called back by StateSpace.forEachSuccessor
+    @Override
+    public void accept(int successor, int cost) {
+        if (table.isClosed(successor)) return;
+        int tentativeG = currentG + cost;
+        if (tentativeG < table.gCost(successor)) {
+            int h = heuristic.applyAsInt(successor);
+            if (h == PRUNE) return;
+            table.update(successor, tentativeG, current);
+            openSet.push(successor, priority(tentativeG, h)); // insert or decrease-key
+            generated++;
+        }
+    }
+
+    // States from the start of the last search to end, following parent links
+    public int[] path(int end) {
+        int length = 0;
+        for (int at = end; at >= 0; at = table.parent(at)) length++;
+        int[] states = new int[length];
+        for (int at = end; at >= 0; at = table.parent(at)) states[--length] = at;
+        return states;
+    }
+
+    // States closed by the last search; the goal it returned is not closed
+    public int expanded() {
+        return table.expanded();
+    }
+
+    // States pushed onto the open list by the last search, decrease-keys included
+    public long generated() {
+        return generated;
+    }
+}
@@ -0,0 +1,16 @@
+package search;
+
+/**
+ * A graph searched by SearchEngine. States are int ids; what an id means (a flat grid index, an interned
+ * puzzle board, ...) is up to the implementation, and ids should be small and dense for the array back ends.
+ */
+public interface StateSpace {
+    boolean isGoal(int state);
+
+    // Calls sink.accept(successor, cost) once for every edge leaving state, cost >= 0
+    void forEachSuccessor(int state, SuccessorSink sink);
+
+    interface SuccessorSink {
+        void accept(int successor, int cost);
+    }
+}
@@ -0,0 +1,23 @@
+package search;
+
+/**
+ * Per-state bookkeeping of a search, i.e. the closed set plus the g-cost and parent of every reached state.
+ * A state that was not reached since the last reset has g-cost Integer.MAX_VALUE and parent -1.
+ */
+public interface StateTable {
+    // Forgets every state, starting a new search
+    void reset();
+
+    int gCost(int state);
+
+    int parent(int state);
+
+    void update(int state, int gCost, int parent);
+
+    boolean isClosed(int state);
+
+    void close(int state);
+
+    // States closed since the last reset
+    int expanded();
+}
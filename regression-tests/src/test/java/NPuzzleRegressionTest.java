@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Solves every input of 318_N_Puzzle_testcases and compares with its expected output file: the minimum
+ * number of moves, or "Unsolvable puzzle". Optimal solutions need not be unique, so only the move count
+ * is compared and the returned path is checked to be a valid sequence of blank moves.
+ */
+class NPuzzleRegressionTest {
+    private static final Pattern MOVES = Pattern.compile("Minimum number of moves = (\\d+)");
+    private static final int UNSOLVABLE = -1;
+    // Hamming and Euclidean expand too many boards on the long cases, they only run up to this many moves
+    private static final int WEAK_HEURISTIC_LIMIT = 24;
+
+    @TestFactory
+    Stream<DynamicTest> testCases() {
+        File dir = new File(System.getProperty("npuzzle.testcases"));
+        File[] inputs = dir.listFiles((d, name) -> name.matches("(\\d+_in|in\\d+)\\.txt"));
+        assertNotNull(inputs, "no test cases in " + dir);
+        Arrays.sort(inputs);
+        assertTrue(inputs.length > 0, "no test cases in " + dir);
+
+        return Arrays.stream(inputs).flatMap(input -> {
+            File output = new File(dir, input.getName().replace("in", "out"));
+            return Stream.of("manhattan", "linearconflict", "hamming", "euclidean")
+                    .map(name -> DynamicTest.dynamicTest(input.getName() + " " + name, () -> check(input, output, name)));
+        });
+    }
+
+    private static void check(File input, File output, String heuristicName) throws IOException {
+        Board initial = readBoard(input);
+        int expected = expectedMoves(output);
+        if (expected == UNSOLVABLE) {
+            assertFalse(initial.isSolvable(), "expected an unsolvable puzzle");
+            return;
+        }
+        assertTrue(initial.isSolvable(), "expected a solvable puzzle");
+        if (expected > WEAK_HEURISTIC_LIMIT && !heuristicName.equals("manhattan") && !heuristicName.equals("linearconflict")) return;
+
+        AStarSolver solver = new AStarSolver(Solver.chooseHeuristic(heuristicName));
+        List<Board> solution = solver.solve(initial);
+        assertNotNull(solution, "no solution found");
+        assertEquals(expected, solution.size() - 1, "minimum number of moves");
+        assertEquals(initial, solution.get(0));
+        assertTrue(solution.get(solution.size() - 1).isGoal(), "path does not end in the goal");
+        for (int i = 1; i < solution.size(); i++) {
+            assertTrue(solution.get(i - 1).getNeighbor().contains(solution.get(i)), "move " + i + " is not a blank move");
+        }
+    }
+
+    private static Board readBoard(File input) throws IOException {
+        try (Scanner scanner = new Scanner(input)) {
+            int size = scanner.nextInt();
+            int[][] tiles = new int[size][size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    tiles[i][j] = scanner.nextInt();
+                }
+            }
+            return new Board(tiles);
+        }
+    }
+
+    private static int expectedMoves(File output) throws IOException {
+        String text = Files.readString(output.toPath());
+        if (text.contains("Unsolvable puzzle")) return UNSOLVABLE;
+        Matcher matcher = MOVES.matcher(text);
+        assertTrue(matcher.find(), "no move count in " + output);
+        return Integer.parseInt(matcher.group(1));
+    }
+}
@@ -0,0 +1,50 @@
+package maxcut;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Resuming a sweep: rows already in the CSV are skipped, a row cut short by a crash is dropped before new
+ * rows are appended, and a CSV written with other columns is moved aside instead of being appended to.
+ */
+class BenchmarkPipelineTest {
+    private static final String[] HEADER = {"Name", "Cut"};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resumeDropsRowCutShortByCrash() throws Exception {
+        Path csv = setUp("Name,Cut\nG1,5\nG2,1");
+        Files.writeString(dir.resolve("out.jsonl"), "{\"Name\":\"G1\",\"Cut\":5}\n{\"Na");
+
+        run();
+        assertEquals("Name,Cut\nG1,5\nG2,9\n", Files.readString(csv));
+        assertEquals("{\"Name\":\"G1\",\"Cut\":5}\n{\"Name\":\"G2\",\"Cut\":9}\n", Files.readString(dir.resolve("out.jsonl")));
+    }
+
+    @Test
+    void otherColumnsAreMovedAside() throws Exception {
+        Path csv = setUp("Name,Cut,Time\nG1,5,3\n");
+
+        run();
+        assertEquals("Name,Cut\nG1,9\nG2,9\n", Files.readString(csv));
+        assertEquals("Name,Cut,Time\nG1,5,3\n", Files.readString(dir.resolve("out.csv.old")));
+    }
+
+    private Path setUp(String csvContent) throws IOException {
+        for (int i = 1; i <= 2; i++) Files.writeString(dir.resolve("g" + i + ".rud"), "2 1\n1 2 9\n");
+        return Files.writeString(dir.resolve("out.csv"), csvContent);
+    }
+
+    private void run() throws Exception {
+        new BenchmarkPipeline(dir.toString(), dir.resolve("out.csv").toString(), dir.resolve("out.jsonl").toString(),
+                HEADER, 1, 1 << 20).run(1, 2, (name, graph) -> new String[]{name, String.valueOf(graph.adjWeight[0])});
+    }
+}
@@ -0,0 +1,62 @@
+package maxcut;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cut values of the MAX-CUT heuristics: exact results against brute force on small graphs, and short GRASP
+ * runs on set1 graphs against the known best cuts used by MaxCutSolver. GRASP is randomized, so its value is
+ * only held to a floor well under what it reaches in a few iterations, and must not exceed the known best.
+ */
+class MaxCutRegressionTest {
+    // Share of the known best cut that three GRASP iterations must reach; they get about 89-96% on these graphs
+    private static final double GRASP_FLOOR = 0.85;
+
+    @Test
+    void exactMatchesBruteForce() throws IOException {
+        for (GraphGenerator.Weights weights : GraphGenerator.Weights.values()) {
+            for (long seed = 1; seed <= 5; seed++) {
+                Graph graph = new GraphGenerator(GraphGenerator.Type.RANDOM, 14, 30, weights, seed).toGraph();
+                ExactMaxCut.ExactResult exact = ExactMaxCut.solve(graph, 60_000);
+                String name = weights + " seed " + seed;
+                assertTrue(exact.optimal, name);
+                assertEquals(bruteForce(graph), exact.cutValue, name);
+                assertEquals(exact.cutValue, graph.cutWeight(exact.partition), name);
+            }
+        }
+    }
+
+    // Vertex 1 stays in Y, every side assignment of the others is tried
+    private static double bruteForce(Graph graph) {
+        int n = graph.numVertices;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int mask = 0; mask < 1 << (n - 1); mask++) {
+            Partition partition = new Partition(n);
+            for (int v = 2; v <= n; v++) {
+                partition.set(v, (mask >> (v - 2) & 1) != 0);
+            }
+            best = Math.max(best, graph.cutWeight(partition));
+        }
+        return best;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"g1, 12078", "g11, 627", "g14, 3187", "g22, 14123", "g32, 1560", "g43, 7027"})
+    void graspOnSet1(String name, int knownBest) throws IOException {
+        Graph graph = RudParser.parse(new File(System.getProperty("maxcut.graphs"), name + ".rud").getPath());
+        assertTrue(ExactMaxCut.spectralUpperBound(graph, 100_000) >= knownBest, "upper bound below the known best cut");
+
+        Grasp grasp = new Grasp();
+        GraspTrace trace = grasp.runGrasp(graph, 0.5, 3, 100, Double.POSITIVE_INFINITY);
+        double cut = trace.getBestCutValue(trace.size() - 1);
+        assertEquals(cut, graph.cutWeight(grasp.getBestPartition()), "reported cut differs from the partition's cut");
+        assertTrue(cut <= knownBest, "cut " + cut + " above the known best " + knownBest);
+        assertTrue(cut >= GRASP_FLOOR * knownBest, "cut " + cut + " below " + GRASP_FLOOR + " of the known best " + knownBest);
+    }
+}
@@ -0,0 +1,74 @@
+package maxcut;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A .rud file that lists edges 1-2 and 3-4 twice, once the other way round, plus a self loop. Every way of
+ * loading it must keep each repeated edge once with the weight of its last line, so the CSR cut and the map
+ * view agree on the same graph.
+ */
+class RudParserTest {
+    private static final String REPEATED_EDGES = "4 6\n1 2 5\n2 3 1\n2 1 -3\n3 3 7\n3 4 2\n3 4 9\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parseKeepsLastWeightOfRepeatedEdge() throws IOException {
+        Graph graph = RudParser.parse(write("repeated.rud").getPath());
+        check(graph);
+
+        assertEquals(Map.of(2, -3), graph.adjList().get(1));
+        assertEquals(Map.of(1, -3, 3, 1), graph.adjList().get(2));
+        graph.findCriticalEdges();
+        assertEquals(9, graph.maxEdge.weight);
+        assertEquals(-3, graph.minEdge.weight);
+    }
+
+    @Test
+    void snapshotKeepsMergedEdges() throws IOException {
+        File rud = write("snapshot.rud");
+        check(RudParser.load(rud.getPath())); // parses and writes the snapshot
+        assertTrue(CsrSnapshot.snapshotFileFor(rud).exists());
+        check(RudParser.load(rud.getPath()));
+    }
+
+    @Test
+    void streamingConversionMergesRepeatedEdges() throws IOException {
+        File csr = dir.resolve("streamed.csr").toFile();
+        RudParser.convertToCsr(write("streamed.rud").getPath(), csr);
+        check(CsrSnapshot.read(csr));
+
+        MappedCsrGraph mapped = MappedCsrGraph.open(csr);
+        assertEquals(4, mapped.numEdges);
+        Map<Integer, Integer> row = new HashMap<>();
+        for (int i = mapped.start(4); i < mapped.end(4); i++) row.put(mapped.target(i), mapped.weight(i));
+        assertEquals(Map.of(3, 9), row);
+    }
+
+    // Edges 1-2 (-3), 2-3 (1), 3-4 (9); the self loop still counts in numEdges but is never stored
+    private static void check(Graph graph) {
+        assertEquals(4, graph.numVertices);
+        assertEquals(4, graph.numEdges);
+        assertEquals(6, graph.adjStart[graph.numVertices + 1]);
+
+        Partition partition = new Partition(4);
+        partition.moveToX(1);
+        partition.moveToX(3);
+        assertEquals(-3 + 1 + 9, graph.cutWeight(partition));
+    }
+
+    private File write(String name) throws IOException {
+        return Files.writeString(dir.resolve(name), REPEATED_EDGES).toFile();
+    }
+}
@@ -0,0 +1,71 @@
+package maxcut;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TabuSearch on many small random graphs, where aspiration re-flips tabu vertices often. TabuSearch asserts
+ * the order of its two GainHeaps every iteration (surefire runs with -ea) and GainHeap refuses a second insert
+ * of a vertex, so heap corruption fails here instead of silently picking wrong moves.
+ */
+class TabuSearchTest {
+
+    @Test
+    void cutMatchesRecomputedCut() throws IOException {
+        Random random = new Random(318);
+        for (int run = 0; run < 500; run++) {
+            int n = 20 + random.nextInt(201);
+            GraphGenerator.Weights weights = run % 2 == 0 ? GraphGenerator.Weights.ONE : GraphGenerator.Weights.PLUS_MINUS_ONE;
+            Graph graph = new GraphGenerator(GraphGenerator.Type.RANDOM, n, 800.0 / n, weights, run).toGraph();
+            Partition start = Partition.random(n, random);
+
+            TabuSearch.TabuResult result = new TabuSearch().improve(graph, start, 50 * n);
+            String name = "run " + run + ", n = " + n;
+            assertEquals(graph.cutWeight(result.partition), result.cutValue, name);
+            assertTrue(result.cutValue >= graph.cutWeight(start), name);
+        }
+    }
+
+    @Test
+    void gainHeapAgainstReference() {
+        Random random = new Random(42);
+        int n = 200;
+        GainHeap heap = new GainHeap(n);
+        Map<Integer, Long> reference = new HashMap<>();
+        for (int step = 0; step < 100_000; step++) {
+            int v = 1 + random.nextInt(n);
+            long k = random.nextInt(41) - 20;
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (reference.containsKey(v)) {
+                        assertThrows(IllegalStateException.class, () -> heap.insert(v, k));
+                    } else {
+                        heap.insert(v, k);
+                        reference.put(v, k);
+                    }
+                    break;
+                case 1:
+                    heap.update(v, k);
+                    reference.computeIfPresent(v, (u, old) -> k);
+                    break;
+                case 2:
+                    heap.remove(v);
+                    reference.remove(v);
+                    break;
+                default:
+                    if (!reference.isEmpty()) {
+                        long max = Collections.max(reference.values());
+                        int top = heap.poll();
+                        assertEquals(max, reference.remove(top));
+                    }
+            }
+            assertTrue(heap.isValid(), "step " + step);
+            assertEquals(reference.isEmpty(), heap.isEmpty());
+            assertEquals(reference.containsKey(v), heap.contains(v));
+        }
+    }
+}